@@ -0,0 +1,43 @@
+package net.mattwhyy.eventTools;
+
+import net.mattwhyy.eventTools.bulk.BulkActionExecutor;
+import org.bukkit.GameMode;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.logging.Logger;
+
+record EventSettings(GameMode eliminationGameMode,
+                     double bulkActionBudgetMillis,
+                     String noPermissionMessage,
+                     String startTitle,
+                     String startSubtitle,
+                     String endTitle,
+                     String endSubtitle) {
+
+    static EventSettings load(FileConfiguration config, Logger logger) {
+        String gamemodeName = config.getString("settings.elimination-gamemode", "SURVIVAL");
+        GameMode eliminationGameMode;
+        try {
+            eliminationGameMode = GameMode.valueOf(gamemodeName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid gamemode '" + gamemodeName + "' in config! Using SURVIVAL as fallback.");
+            eliminationGameMode = GameMode.SURVIVAL;
+        }
+
+        double budget = config.getDouble("settings.bulk-action-budget-ms", BulkActionExecutor.DEFAULT_BUDGET_MILLIS);
+        if (budget <= 0) {
+            logger.warning("settings.bulk-action-budget-ms must be positive! Using "
+                    + BulkActionExecutor.DEFAULT_BUDGET_MILLIS + " as fallback.");
+            budget = BulkActionExecutor.DEFAULT_BUDGET_MILLIS;
+        }
+
+        return new EventSettings(
+                eliminationGameMode,
+                budget,
+                config.getString("messages.no-permission", "&cNo permission"),
+                config.getString("messages.event-start-title", "§6Event started!"),
+                config.getString("messages.event-start-subtitle", "§eGood luck!"),
+                config.getString("messages.event-end-title", "§aEvent ended!"),
+                config.getString("messages.event-end-subtitle", "§7Thanks for playing!"));
+    }
+}
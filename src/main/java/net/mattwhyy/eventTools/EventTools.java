@@ -1,6 +1,14 @@
 package net.mattwhyy.eventTools;
 
+import net.mattwhyy.eventTools.bulk.BulkActionExecutor;
+import net.mattwhyy.eventTools.kits.KitRegistry;
+import net.mattwhyy.eventTools.kits.KitTemplate;
+import net.mattwhyy.eventTools.participants.EliminationLedger;
+import net.mattwhyy.eventTools.participants.ParticipantRegistry;
+import net.mattwhyy.eventTools.scheduler.EventTask;
+import net.mattwhyy.eventTools.scheduler.TaskScheduler;
 import net.mattwhyy.eventTools.teams.Team;
+import net.mattwhyy.eventTools.teleport.TeleportPipeline;
 import net.mattwhyy.eventTools.teams.TeamManager;
 import net.mattwhyy.eventTools.zones.EventZone;
 import net.mattwhyy.eventTools.zones.Shape;
@@ -9,36 +17,48 @@ import net.mattwhyy.eventTools.zones.ZoneType;
 import org.bukkit.*;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
-import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Firework;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPotionEffectEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.FireworkMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 public final class EventTools extends JavaPlugin implements Listener {
 
+    private static final int BYPASS_RECHECK_BATCH = 10;
+    private static final int MAX_BATCH_EFFECTS = 5;
+    private static final int MAX_SUMMARY_NAMES = 5;
+
     private EventToolsExpansion expansion;
+    private TaskScheduler scheduler;
+    private TeleportPipeline teleports;
+    private BulkActionExecutor bulkActions;
+    private KitRegistry kits;
 
-    final Set<UUID> eliminatedPlayers = ConcurrentHashMap.newKeySet();
+    final ParticipantRegistry participants = new ParticipantRegistry();
     private final Set<UUID> disconnectedPlayers = ConcurrentHashMap.newKeySet();
-    final List<UUID> eliminationOrder = Collections.synchronizedList(new ArrayList<>());
+    final EliminationLedger eliminations = new EliminationLedger();
+    private volatile List<EliminationLedger.Placement> lastPlacements = List.of();
+    private volatile Map<UUID, Integer> lastPlaceIndex = Map.of();
     final Map<UUID, Boolean> votes = new ConcurrentHashMap<>();
 
     volatile String eventTitle = "Event";
@@ -46,25 +66,33 @@ public final class EventTools extends JavaPlugin implements Listener {
     TeamManager teamManager;
     private Location spawnLocation;
     public volatile boolean eventActive = false;
+    private final AtomicBoolean ending = new AtomicBoolean();
     private volatile boolean chatMuted = false;
     private volatile boolean numberGuessActive = false;
     private volatile int targetNumber;
     private volatile UUID numberGuessWinner = null;
     volatile boolean voteInProgress = false;
     volatile String currentVoteQuestion;
-    private volatile BukkitTask voteTask;
+    private volatile EventTask voteTask;
+    private EventTask bypassTask;
     volatile int voteTimeRemaining;
     long eventStartTime;
 
-    private FileConfiguration config;
+    private volatile EventSettings settings;
 
     @Override
     public void onEnable() {
         saveDefaultConfig();
-        config = getConfig();
+        scheduler = TaskScheduler.create(this);
+        kits = new KitRegistry(getLogger());
+        loadSettings();
+        teleports = new TeleportPipeline(this, scheduler);
+        bulkActions = new BulkActionExecutor(scheduler, settings.bulkActionBudgetMillis());
         getLogger().info("EventTools has been enabled!");
         registerCommands();
         getServer().getPluginManager().registerEvents(this, this);
+        participants.rebuild();
+        startBypassRecheck();
         this.zoneManager = new ZoneManager(this);
         this.teamManager = new TeamManager(this);
         this.zoneManager.startParticleRenderer();
@@ -74,12 +102,26 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
     }
 
+    private void loadSettings() {
+        FileConfiguration config = getConfig();
+        settings = EventSettings.load(config, getLogger());
+        kits.load(config.getConfigurationSection("kits"));
+    }
+
+    public ZoneManager getZoneManager() {
+        return zoneManager;
+    }
+
+    public TaskScheduler getTaskScheduler() {
+        return scheduler;
+    }
+
     private void registerCommands() {
         Arrays.asList(
                 "eliminate", "revive", "seteventspawn", "startevent", "stopevent",
                 "bring", "heal", "list", "mutechat", "clearchat", "freeze",
                 "timedeffect", "invsee", "changegamemode", "kit", "startvote", "endvote", "countdown", "numberguess",
-                "giveitem", "clearinventory", "zone", "team"
+                "giveitem", "clearinventory", "zone", "team", "eventtools"
         ).forEach(cmd -> getCommand(cmd).setExecutor(this));
     }
 
@@ -92,6 +134,9 @@ public final class EventTools extends JavaPlugin implements Listener {
         if (zoneManager != null) {
             zoneManager.shutdown();
         }
+        if (teamManager != null) {
+            teamManager.shutdown();
+        }
         getLogger().info("EventTools has been disabled!");
     }
 
@@ -100,13 +145,29 @@ public final class EventTools extends JavaPlugin implements Listener {
             voteTask.cancel();
             voteTask = null;
         }
+        if (bypassTask != null) {
+            bypassTask.cancel();
+            bypassTask = null;
+        }
+        if (teleports != null) {
+            teleports.shutdown();
+        }
+        if (bulkActions != null) {
+            bulkActions.shutdown();
+        }
+    }
+
+    private void startBypassRecheck() {
+        this.bypassTask = scheduler.runTimer(task -> participants.recheckBypass(BYPASS_RECHECK_BATCH, player -> {
+            if (zoneManager != null) zoneManager.refreshBorder(player);
+        }), 20L, 20L);
     }
 
     @Override
     public boolean onCommand(CommandSender sender, Command cmd, String label, String[] args) {
         try {
             if (!sender.hasPermission("eventtools.admin")) {
-                sendMessage(sender, config.getString("messages.no-permission", "&cNo permission"));
+                sendMessage(sender, settings.noPermissionMessage());
                 return true;
             }
 
@@ -134,6 +195,7 @@ public final class EventTools extends JavaPlugin implements Listener {
                 case "clearchat": return handleClearChat(sender);
                 case "zone": return handleZoneCommand(sender, args);
                 case "team": return handleTeamCommand(sender, args);
+                case "eventtools": return handleEventToolsCommand(sender, args);
                 default: return false;
             }
         } catch (Exception e) {
@@ -160,9 +222,12 @@ public final class EventTools extends JavaPlugin implements Listener {
             return true;
         }
 
-        eliminatedPlayers.clear();
-        eliminationOrder.clear();
+        participants.reset();
+        eliminations.clear();
+        participants.getAlive().forEach(eliminations::enroll);
+        teamManager.recount();
         eventStartTime = System.currentTimeMillis();
+        ending.set(false);
         eventActive = true;
         chatMuted = false;
         numberGuessActive = false;
@@ -184,8 +249,8 @@ public final class EventTools extends JavaPlugin implements Listener {
             }
             else {
                 List<Player> unassignedPlayers = Bukkit.getOnlinePlayers().stream()
-                        .filter(p -> !p.hasPermission("eventtools.bypass"))
-                        .filter(p -> !teamManager.getPlayerTeam(p).isPresent())
+                        .filter(p -> !isBypassed(p))
+                        .filter(p -> teamManager.getTeamOf(p) == null)
                         .collect(Collectors.toList());
 
                 if (!unassignedPlayers.isEmpty()) {
@@ -209,8 +274,8 @@ public final class EventTools extends JavaPlugin implements Listener {
         });
 
         broadcastTitle(
-                config.getString("messages.event-start-title", "§6Event started!"),
-                config.getString("messages.event-start-subtitle", "§eGood luck!")
+                settings.startTitle(),
+                settings.startSubtitle()
         );
 
         return true;
@@ -223,8 +288,8 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
 
         broadcastTitle(
-                config.getString("messages.event-end-title", "§aEvent ended!"),
-                config.getString("messages.event-end-subtitle", "§7Thanks for playing!")
+                settings.endTitle(),
+                settings.endSubtitle()
         );
         resetEvent();
         eventStartTime = 0;
@@ -238,78 +303,46 @@ public final class EventTools extends JavaPlugin implements Listener {
             return true;
         }
         if (args.length != 1) {
-            sendMessage(sender, "&cUsage: /bring <player|all|alive|eliminated>");
+            sendMessage(sender, "&cUsage: /bring <target>");
             return true;
         }
 
         Player senderPlayer = (Player) sender;
-        int brought = 0;
-        String target = args[0].toLowerCase();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.equals(senderPlayer)) continue;
-
-            boolean shouldBring = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                default -> player.getName().equalsIgnoreCase(args[0]);
-            };
-
-            if (shouldBring) {
-                safeTeleport(player, senderPlayer.getLocation());
-                sendMessage(player, "&aYou were brought to " + sender.getName());
-                brought++;
-            }
-        }
-
-        if (brought == 0 && !target.matches("all|alive|eliminated")) {
-            sendMessage(sender, "&cPlayer not found!");
-            return true;
-        }
-
-        String targetName = target.matches("all|alive|eliminated") ?
-                brought + " player" + (brought != 1 ? "s" : "") :
-                Bukkit.getPlayer(args[0]) != null ? Bukkit.getPlayer(args[0]).getName() : "target";
-        sendMessage(sender, String.format("&aBrought %s to you!", targetName));
+        TargetSelector selector = TargetSelector.parse(args[0]);
+        List<Player> targets = resolveTargets(sender, selector, false);
+        if (targets == null) return true;
+
+        if (targets.size() > 1) {
+            sendMessage(sender, "&7Bringing " + targets.size() + " players...");
+        }
+        teleports.teleport(targets, senderPlayer.getLocation(),
+                player -> sendMessage(player, "&aYou were brought to " + sender.getName()),
+                result -> {
+                    String targetName = selector.isGroup() || targets.size() > 1 ?
+                            result.teleported() + " player" + (result.teleported() != 1 ? "s" : "") :
+                            targets.get(0).getName();
+                    sendMessage(sender, String.format("&aBrought %s to you!", targetName));
+                    if (result.failed() > 0) {
+                        sendMessage(sender, "&c" + result.failed() + " player(s) could not be teleported.");
+                    }
+                });
         return true;
     }
 
     private boolean handleHeal(CommandSender sender, String[] args) {
         if (args.length != 1) {
-            sendMessage(sender, "&cUsage: /heal <player|all|alive|eliminated>");
+            sendMessage(sender, "&cUsage: /heal <target>");
             return true;
         }
 
-        int healed = 0;
-        String target = args[0].toLowerCase();
+        TargetSelector selector = TargetSelector.parse(args[0]);
+        List<Player> targets = resolveTargets(sender, selector, false);
+        if (targets == null) return true;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.equals(sender)) continue;
-
-            boolean shouldHeal = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                default -> player.getName().equalsIgnoreCase(args[0]);
-            };
-
-            if (shouldHeal) {
-                healPlayer(player);
-                sendMessage(player, "&aYou have been healed!");
-                healed++;
-            }
-        }
-
-        if (healed == 0 && !target.matches("all|alive|eliminated")) {
-            sendMessage(sender, "&cPlayer not found!");
-            return true;
-        }
-
-        String targetName = target.matches("all|alive|eliminated") ?
-                healed + " player" + (healed != 1 ? "s" : "") :
-                Bukkit.getPlayer(args[0]) != null ? Bukkit.getPlayer(args[0]).getName() : "target";
-        sendMessage(sender, String.format("&aHealed %s!", targetName));
+        bulkActions.submit(sender, "Healing players", targets, player -> {
+            healPlayer(player);
+            sendMessage(player, "&aYou have been healed!");
+        }, () -> sendMessage(sender, String.format("&aHealed %s!", selector.describe(targets))));
         return true;
     }
 
@@ -319,7 +352,7 @@ public final class EventTools extends JavaPlugin implements Listener {
             return true;
         }
         if (args.length < 1) {
-            sendMessage(sender, "&cUsage: /giveitem <player|all|alive|eliminated> [amount]");
+            sendMessage(sender, "&cUsage: /giveitem <target> [amount]");
             return true;
         }
 
@@ -334,73 +367,31 @@ public final class EventTools extends JavaPlugin implements Listener {
         ItemStack toGive = item.clone();
         toGive.setAmount(amount);
 
-        int given = 0;
-        String target = args[0].toLowerCase();
+        TargetSelector selector = TargetSelector.parse(args[0]);
+        List<Player> targets = resolveTargets(sender, selector, false);
+        if (targets == null) return true;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.equals(givingPlayer)) continue;
-
-            boolean shouldGive = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                default -> player.getName().equalsIgnoreCase(args[0]);
-            };
-
-            if (shouldGive) {
-                player.getInventory().addItem(toGive.clone());
-                sendMessage(player, "&aYou received an item from " + sender.getName());
-                given++;
-            }
-        }
-
-        if (given == 0 && !target.matches("all|alive|eliminated")) {
-            sendMessage(sender, "&cPlayer not found!");
-            return true;
-        }
-
-        String targetName = target.matches("all|alive|eliminated") ?
-                given + " player" + (given != 1 ? "s" : "") :
-                Bukkit.getPlayer(args[0]) != null ? Bukkit.getPlayer(args[0]).getName() : "target";
-        sendMessage(sender, String.format("&aGave item to %s!", targetName));
+        bulkActions.submit(sender, "Giving items", targets, player -> {
+            player.getInventory().addItem(toGive.clone());
+            sendMessage(player, "&aYou received an item from " + sender.getName());
+        }, () -> sendMessage(sender, String.format("&aGave item to %s!", selector.describe(targets))));
         return true;
     }
 
     private boolean handleClearInventory(CommandSender sender, String[] args) {
         if (args.length != 1) {
-            sendMessage(sender, "&cUsage: /clearinventory <player|all|alive|eliminated>");
+            sendMessage(sender, "&cUsage: /clearinventory <target>");
             return true;
         }
 
-        int cleared = 0;
-        String target = args[0].toLowerCase();
+        TargetSelector selector = TargetSelector.parse(args[0]);
+        List<Player> targets = resolveTargets(sender, selector, false);
+        if (targets == null) return true;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.equals(sender)) continue;
-
-            boolean shouldClear = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                default -> player.getName().equalsIgnoreCase(args[0]);
-            };
-
-            if (shouldClear) {
-                player.getInventory().clear();
-                sendMessage(player, "&cYour inventory was cleared!");
-                cleared++;
-            }
-        }
-
-        if (cleared == 0 && !target.matches("all|alive|eliminated")) {
-            sendMessage(sender, "&cPlayer not found!");
-            return true;
-        }
-
-        String targetName = target.matches("all|alive|eliminated") ?
-                cleared + " player" + (cleared != 1 ? "s" : "") :
-                Bukkit.getPlayer(args[0]) != null ? Bukkit.getPlayer(args[0]).getName() : "target";
-        sendMessage(sender, String.format("&aCleared inventory of %s!", targetName));
+        bulkActions.submit(sender, "Clearing inventories", targets, player -> {
+            player.getInventory().clear();
+            sendMessage(player, "&cYour inventory was cleared!");
+        }, () -> sendMessage(sender, String.format("&aCleared inventory of %s!", selector.describe(targets))));
         return true;
     }
 
@@ -415,19 +406,8 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
 
         if (args[0].equalsIgnoreCase("all")) {
-            int count = 0;
-            List<Player> toEliminate = Bukkit.getOnlinePlayers().stream()
-                    .filter(p -> !p.hasPermission("eventtools.bypass"))
-                    .collect(Collectors.toList());
-
-            for (Player player : toEliminate) {
-                handleElimination(player);
-
-                count++;
-            }
-
-            sendMessage(sender, "&aEliminated " + count + " players!");
-            checkForEventEnd();
+            List<Player> eliminated = eliminatePlayers(new ArrayList<>(participants.getAlive()));
+            sendMessage(sender, "&aEliminated " + eliminated.size() + " players!");
             return true;
         }
 
@@ -436,7 +416,7 @@ public final class EventTools extends JavaPlugin implements Listener {
             sendMessage(sender, "&cPlayer not found!");
             return true;
         }
-        if (target.hasPermission("eventtools.bypass")) {
+        if (isBypassed(target)) {
             sendMessage(sender, "&cYou can't eliminate this player!");
             return true;
         }
@@ -456,14 +436,8 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
 
         if (args[0].equalsIgnoreCase("all")) {
-            int count = 0;
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (revivePlayer(sender, player)) {
-                    count++;
-                }
-            }
-            broadcastMessage("&a" + count + " players have been revived!");
-            sendMessage(sender, "&aRevived " + count + " players!");
+            List<Player> revived = revivePlayers(sender, new ArrayList<>(participants.getEliminated()));
+            sendMessage(sender, "&aRevived " + revived.size() + " players!");
             return true;
         }
 
@@ -490,29 +464,16 @@ public final class EventTools extends JavaPlugin implements Listener {
         switch (args[0].toLowerCase()) {
             case "alive":
                 list.append("&aAlive Players:\n");
-                Bukkit.getOnlinePlayers().stream()
-                        .filter(p -> !p.hasPermission("eventtools.bypass"))
-                        .filter(p -> !isEliminated(p))
-                        .forEach(p -> list.append("&7- ").append(p.getName()).append("\n"));
+                participants.getAlive().forEach(p -> list.append("&7- ").append(p.getName()).append("\n"));
                 break;
             case "eliminated":
                 list.append("&cEliminated Players:\n");
-                Bukkit.getOnlinePlayers().stream()
-                        .filter(p -> !p.hasPermission("eventtools.bypass"))
-                        .filter(this::isEliminated)
-                        .forEach(p -> list.append("&7- ").append(p.getName()).append("\n"));
+                participants.getEliminated().forEach(p -> list.append("&7- ").append(p.getName()).append("\n"));
                 break;
             case "all":
                 list.append("&6All Players:\n");
-                Bukkit.getOnlinePlayers().stream()
-                        .filter(p -> !p.hasPermission("eventtools.bypass"))
-                        .forEach(p -> {
-                            if (isEliminated(p)) {
-                                list.append("&c✖ ").append(p.getName()).append("\n");
-                            } else {
-                                list.append("&a✔ ").append(p.getName()).append("\n");
-                            }
-                        });
+                participants.getAlive().forEach(p -> list.append("&a✔ ").append(p.getName()).append("\n"));
+                participants.getEliminated().forEach(p -> list.append("&c✖ ").append(p.getName()).append("\n"));
                 break;
             default:
                 sendMessage(sender, "&cUsage: /list <alive|eliminated|all>");
@@ -524,50 +485,29 @@ public final class EventTools extends JavaPlugin implements Listener {
 
     private boolean handleFreeze(CommandSender sender, String[] args) {
         if (args.length != 1) {
-            sendMessage(sender, "&cUsage: /freeze <player|all|alive|eliminated>");
+            sendMessage(sender, "&cUsage: /freeze <target>");
             return true;
         }
 
-        int affected = 0;
-        String target = args[0].toLowerCase();
+        TargetSelector selector = TargetSelector.parse(args[0]);
+        List<Player> targets = resolveTargets(sender, selector, false);
+        if (targets == null) return true;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.equals(sender)) continue;
-
-            boolean shouldAffect = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                default -> player.getName().equalsIgnoreCase(args[0]);
-            };
-
-            if (shouldAffect) {
-                boolean currentlyFrozen = player.getWalkSpeed() == 0;
-                freezePlayer(player, !currentlyFrozen);
-                affected++;
-            }
+        boolean anyFrozen = false;
+        for (Player player : targets) {
+            boolean freeze = player.getWalkSpeed() != 0;
+            freezePlayer(player, freeze);
+            anyFrozen |= freeze;
         }
 
-        if (affected == 0 && !target.matches("all|alive|eliminated")) {
-            sendMessage(sender, "&cPlayer not found!");
-            return true;
-        }
-
-        String targetName = target.matches("all|alive|eliminated") ?
-                affected + " player" + (affected != 1 ? "s" : "") :
-                Bukkit.getPlayer(args[0]) != null ? Bukkit.getPlayer(args[0]).getName() : "target";
-
-        boolean anyFrozen = Bukkit.getOnlinePlayers().stream()
-                .anyMatch(p -> p.getWalkSpeed() == 0);
         String action = anyFrozen ? "Froze" : "Unfroze";
-
-        sendMessage(sender, String.format("&a%s %s!", action, targetName));
+        sendMessage(sender, String.format("&a%s %s!", action, selector.describe(targets)));
         return true;
     }
 
     private boolean handleTimedEffect(CommandSender sender, String[] args) {
         if (args.length < 3) {
-            sendMessage(sender, "&cUsage: /timedeffect <effect> <duration> [amplifier] <player|all|alive|eliminated>");
+            sendMessage(sender, "&cUsage: /timedeffect <effect> <duration> [amplifier] <target>");
             sendMessage(sender, "&7Example: /timedeffect speed 30 1 all");
             return true;
         }
@@ -587,51 +527,29 @@ public final class EventTools extends JavaPlugin implements Listener {
 
             int duration = parseInt(args[durationArgPos], 1) * 20;
             int amplifier = args.length >= 4 ? parseInt(args[amplifierArgPos], 0) : 0;
-            int applied = 0;
-            String target = args[targetArgPos].toLowerCase();
-
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (player.equals(sender)) continue;
-
-                boolean shouldApply = switch (target) {
-                    case "all" -> true;
-                    case "alive" -> !isEliminated(player);
-                    case "eliminated" -> isEliminated(player);
-                    default -> player.getName().equalsIgnoreCase(args[targetArgPos]);
-                };
-
-                if (shouldApply) {
-                    player.addPotionEffect(new PotionEffect(type, duration, amplifier));
-                    applied++;
-                    sendMessage(player, String.format(
-                            "&aYou received %s %s for %s seconds!",
-                            amplifier > 0 ? "level " + (amplifier + 1) : "",
-                            type.getName().toLowerCase().replace("_", " "),
-                            duration / 20
-                    ));
-                }
-            }
 
-            if (applied == 0 && !target.matches("all|alive|eliminated")) {
-                sendMessage(sender, "&cPlayer not found!");
-                return true;
-            }
-
-            String targetName;
-            if (target.matches("all|alive|eliminated")) {
-                targetName = applied + " player" + (applied != 1 ? "s" : "");
-            } else {
-                Player targetPlayer = Bukkit.getPlayer(args[targetArgPos]);
-                targetName = targetPlayer != null ? targetPlayer.getName() : "unknown player";
-            }
+            TargetSelector selector = TargetSelector.parse(args[targetArgPos]);
+            List<Player> targets = resolveTargets(sender, selector, false);
+            if (targets == null) return true;
 
-            sendMessage(sender, String.format(
+            PotionEffect effect = new PotionEffect(type, duration, amplifier);
+            String received = String.format(
+                    "&aYou received %s %s for %s seconds!",
+                    amplifier > 0 ? "level " + (amplifier + 1) : "",
+                    type.getName().toLowerCase().replace("_", " "),
+                    duration / 20
+            );
+            String applied = String.format(
                     "&aApplied %s (level %d) to %s for %d seconds!",
                     type.getName(),
                     amplifier + 1,
-                    targetName,
+                    selector.describe(targets),
                     duration / 20
-            ));
+            );
+            bulkActions.submit(sender, "Applying " + type.getName().toLowerCase(), targets, player -> {
+                player.addPotionEffect(effect);
+                sendMessage(player, received);
+            }, () -> sendMessage(sender, applied));
         } catch (Exception e) {
             sendMessage(sender, "&cInvalid effect, duration or amplifier!");
             sendMessage(sender, "&7Example: /timedeffect speed 30 1 all");
@@ -684,21 +602,18 @@ public final class EventTools extends JavaPlugin implements Listener {
         broadcastMessage("&aType &2YES &aor &cNO &ain chat to vote!");
         broadcastMessage("&7Vote ends in 30 seconds!");
 
-        voteTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                voteTimeRemaining--;
+        voteTask = scheduler.runTimer(task -> {
+            voteTimeRemaining--;
 
-                if (voteTimeRemaining == 15 || voteTimeRemaining == 5) {
-                    broadcastMessage("&7" + voteTimeRemaining + " seconds remaining to vote!");
-                }
+            if (voteTimeRemaining == 15 || voteTimeRemaining == 5) {
+                broadcastMessage("&7" + voteTimeRemaining + " seconds remaining to vote!");
+            }
 
-                if (voteTimeRemaining <= 0) {
-                    endVote();
-                    cancel();
-                }
+            if (voteTimeRemaining <= 0) {
+                endVote();
+                task.cancel();
             }
-        }.runTaskTimer(this, 20L, 20L);
+        }, 20L, 20L);
 
         return true;
     }
@@ -721,31 +636,28 @@ public final class EventTools extends JavaPlugin implements Listener {
 
         try {
             int seconds = parseInt(args[0], 5);
-            new BukkitRunnable() {
-                int timeLeft = seconds;
-
-                @Override
-                public void run() {
-                    Bukkit.getOnlinePlayers().forEach(p -> {
-                        String title = timeLeft <= 3 ? "§c" + timeLeft : "§e" + timeLeft;
-                        p.sendTitle(title, "", 5, 20, 5);
-
-                        float pitch = 1.0f + (1.0f - (timeLeft / (float)seconds));
-                        p.playSound(p.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, pitch);
-                    });
-
-                    if (timeLeft <= 0) {
-                        Bukkit.getOnlinePlayers().forEach(p -> {
-                            p.sendTitle("§aGO!", "§7The event begins!", 10, 40, 10);
-                            p.playSound(p.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
-                        });
-                        cancel();
-                        return;
-                    }
-
-                    timeLeft--;
+            int[] timeLeft = {seconds};
+            scheduler.runTimer(task -> {
+                int remaining = timeLeft[0];
+                Bukkit.getOnlinePlayers().forEach(p -> scheduler.runFor(p, () -> {
+                    String title = remaining <= 3 ? "§c" + remaining : "§e" + remaining;
+                    p.sendTitle(title, "", 5, 20, 5);
+
+                    float pitch = 1.0f + (1.0f - (remaining / (float)seconds));
+                    p.playSound(p.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, pitch);
+                }));
+
+                if (remaining <= 0) {
+                    Bukkit.getOnlinePlayers().forEach(p -> scheduler.runFor(p, () -> {
+                        p.sendTitle("§aGO!", "§7The event begins!", 10, 40, 10);
+                        p.playSound(p.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
+                    }));
+                    task.cancel();
+                    return;
                 }
-            }.runTaskTimer(this, 0, 20);
+
+                timeLeft[0]--;
+            }, 0L, 20L);
         } catch (NumberFormatException e) {
             sendMessage(sender, "&cInvalid number! Use a whole number (e.g. 10)");
         }
@@ -812,6 +724,10 @@ public final class EventTools extends JavaPlugin implements Listener {
                 return handleZoneList(player);
             case "toggle":
                 return handleZoneToggle(player, args);
+            case "shrink":
+                return handleZoneShrink(player, args);
+            case "border":
+                return handleZoneBorder(player, args);
             default:
                 sendZoneHelp(sender);
                 return true;
@@ -827,8 +743,8 @@ public final class EventTools extends JavaPlugin implements Listener {
         try {
             String name = args[1];
             Shape shape = Shape.valueOf(args[2].toUpperCase());
-            int radius = Math.min(Integer.parseInt(args[3]), 50);
             ZoneType type = ZoneType.valueOf(args[4].toUpperCase());
+            int radius = Math.min(Integer.parseInt(args[3]), EventZone.maxRadius(type));
 
             PotionEffect effect = null;
             if (type == ZoneType.EFFECT) {
@@ -885,9 +801,10 @@ public final class EventTools extends JavaPlugin implements Listener {
         for (String zoneName : zones) {
             EventZone zone = zoneManager.getZone(zoneName);
             message.append(String.format(
-                    "&7- &e%s &7(Type: %s, Radius: %d, Location: %d,%d,%d)\n",
+                    "&7- &e%s &7(Type: %s%s, Radius: %d, Location: %d,%d,%d)\n",
                     zoneName,
                     zone.getType(),
+                    (zone.isShrinking() ? ", Shrinking" : "") + (zone.usesVirtualBorder() ? ", Border" : ""),
                     zone.getRadius(),
                     zone.getCenter().getBlockX(),
                     zone.getCenter().getBlockY(),
@@ -905,6 +822,9 @@ public final class EventTools extends JavaPlugin implements Listener {
                         "&e/zone delete <name>\n" +
                         "&e/zone list\n" +
                         "&e/zone toggle <name>\n" +
+                        "&e/zone shrink <name> <radius> <seconds> [x z]\n" +
+                        "&7Radius is capped at " + EventZone.MAX_RADIUS + ", or " + EventZone.MAX_SHRINKING_RADIUS + " for must_stay zones\n" +
+                        "&e/zone border <name> &7- Toggle a world border that walls players into a square must_stay zone\n" +
                         "&7Example: /zone create speed_zone circle 15 effect speed:1"
         ));
     }
@@ -921,7 +841,7 @@ public final class EventTools extends JavaPlugin implements Listener {
             return true;
         }
 
-        zone.setActive(!zone.isActive());
+        zoneManager.setZoneActive(zone, !zone.isActive());
         sendMessage(player, String.format("&aZone '%s' is now %s",
                 zone.getName(),
                 zone.isActive() ? "&aACTIVE" : "&cINACTIVE"
@@ -929,13 +849,86 @@ public final class EventTools extends JavaPlugin implements Listener {
         return true;
     }
 
+    private boolean handleZoneShrink(Player player, String[] args) {
+        if (args.length != 4 && args.length != 6) {
+            sendMessage(player, "&cUsage: /zone shrink <name> <radius> <seconds> [x z]");
+            return true;
+        }
+
+        EventZone zone = zoneManager.getZone(args[1]);
+        if (zone == null) {
+            sendMessage(player, "&cZone not found!");
+            return true;
+        }
+
+        try {
+            double radius = Double.parseDouble(args[2]);
+            int seconds = Integer.parseInt(args[3]);
+            double x = args.length == 6 ? Double.parseDouble(args[4]) : zone.getCenterX();
+            double z = args.length == 6 ? Double.parseDouble(args[5]) : zone.getCenterZ();
+            if (radius < 1 || radius > EventZone.MAX_SHRINKING_RADIUS || seconds < 0) {
+                sendMessage(player, "&cRadius must be between 1 and " + EventZone.MAX_SHRINKING_RADIUS + " and seconds can't be negative!");
+                return true;
+            }
+
+            zone.addKeyframe(radius, x, z, seconds * 1000L);
+            sendMessage(player, String.format("&aZone '%s' will reach radius %d at %d,%d in %ds",
+                    zone.getName(), (int) radius, (int) x, (int) z, seconds));
+        } catch (NumberFormatException e) {
+            sendMessage(player, "&cInvalid number!");
+        }
+        return true;
+    }
+
+    private boolean handleZoneBorder(Player player, String[] args) {
+        if (args.length < 2) {
+            sendMessage(player, "&cUsage: /zone border <name>");
+            return true;
+        }
+
+        EventZone zone = zoneManager.getZone(args[1]);
+        if (zone == null) {
+            sendMessage(player, "&cZone not found!");
+            return true;
+        }
+        if (zone.getShape() != Shape.SQUARE || zone.getType() != ZoneType.MUST_STAY) {
+            sendMessage(player, "&cOnly square must_stay zones can use a world border!");
+            return true;
+        }
+
+        zoneManager.setVirtualBorder(zone, !zone.usesVirtualBorder());
+        sendMessage(player, String.format("&aZone '%s' now uses %s",
+                zone.getName(),
+                zone.usesVirtualBorder() ? "a world border" : "particles"
+        ));
+        return true;
+    }
+
     private int getEligiblePlayerCount(CommandSender sender) {
         return (int) Bukkit.getOnlinePlayers().stream()
                 .filter(p -> !p.equals(sender))
-                .filter(p -> !p.hasPermission("eventtools.bypass"))
+                .filter(p -> !isBypassed(p))
                 .count();
     }
 
+    private List<Player> resolveTargets(CommandSender sender, TargetSelector selector, boolean includeSender) {
+        if (selector == null) {
+            sendMessage(sender, "&cInvalid target! Use a player name, all, alive, eliminated, team:<name>, zone:<name> or radius:<blocks>");
+            return null;
+        }
+        if (selector.requiresPlayer() && !(sender instanceof Player)) {
+            sendMessage(sender, "&cOnly players can use that target!");
+            return null;
+        }
+
+        List<Player> targets = selector.resolve(this, sender, includeSender);
+        if (targets.isEmpty() && !selector.isGroup()) {
+            sendMessage(sender, "&cPlayer not found!");
+            return null;
+        }
+        return targets;
+    }
+
     private int parseInt(String input, int defaultValue) {
         try {
             return Integer.parseInt(input);
@@ -944,8 +937,20 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
     }
 
+    public List<EliminationLedger.Placement> getLastPlacements() {
+        return lastPlacements;
+    }
+
+    public int getLastPlacement(UUID uuid) {
+        return lastPlaceIndex.getOrDefault(uuid, 0);
+    }
+
+    public boolean isBypassed(Player player) {
+        return participants.isBypassed(player);
+    }
+
     public boolean isEliminated(Player player) {
-        return eliminatedPlayers.contains(player.getUniqueId());
+        return participants.isEliminated(player.getUniqueId());
     }
 
     private void endVote() {
@@ -976,6 +981,7 @@ public final class EventTools extends JavaPlugin implements Listener {
         player.setSaturation(20f);
         player.setFireTicks(0);
         clearPotionEffects(player);
+        zoneManager.resync(player);
     }
 
     private void clearPotionEffects(Player player) {
@@ -984,9 +990,10 @@ public final class EventTools extends JavaPlugin implements Listener {
     }
 
     public void resetEvent() {
-        eliminatedPlayers.clear();
+        bulkActions.cancelAll();
+        participants.reset();
         disconnectedPlayers.clear();
-        eliminationOrder.clear();
+        eliminations.clear();
         votes.clear();
 
         eventActive = false;
@@ -997,17 +1004,6 @@ public final class EventTools extends JavaPlugin implements Listener {
         currentVoteQuestion = null;
 
         if (!teamManager.getTeamNames().isEmpty()) {
-            teamManager.getAllTeams().forEach(team -> {
-                team.getMembers().stream()
-                        .map(Bukkit::getPlayer)
-                        .filter(Objects::nonNull)
-                        .forEach(player -> {
-                            player.setDisplayName(null);
-                            player.setPlayerListName(null);
-                            player.setCustomName(null);
-                        });
-            });
-
             new ArrayList<>(teamManager.getTeamNames()).forEach(teamManager::deleteTeam);
         }
 
@@ -1016,21 +1012,25 @@ public final class EventTools extends JavaPlugin implements Listener {
             voteTask = null;
         }
 
+        List<Player> players = new ArrayList<>();
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.hasPermission("eventtools.bypass")) continue;
+            if (isBypassed(player)) continue;
 
-            player.setGameMode(GameMode.SURVIVAL);
-            clearPotionEffects(player);
+            players.add(player);
+            scheduler.runFor(player, () -> {
+                player.setGameMode(GameMode.SURVIVAL);
+                clearPotionEffects(player);
 
-            player.setWalkSpeed(0.2f);
-            player.setFlySpeed(0.1f);
-            player.setInvulnerable(false);
+                player.setWalkSpeed(0.2f);
+                player.setFlySpeed(0.1f);
+                player.setInvulnerable(false);
 
-            healPlayer(player);
+                healPlayer(player);
+            });
+        }
 
-            if (spawnLocation != null) {
-                safeTeleport(player, spawnLocation);
-            }
+        if (spawnLocation != null) {
+            teleports.teleport(players, spawnLocation, null, null);
         }
 
         targetNumber = 0;
@@ -1038,7 +1038,7 @@ public final class EventTools extends JavaPlugin implements Listener {
 
     private boolean handleChangeGamemode(CommandSender sender, String[] args) {
         if (args.length < 1) {
-            sendMessage(sender, "&cUsage: /changegamemode <mode> [player|all|alive|eliminated]");
+            sendMessage(sender, "&cUsage: /changegamemode <mode> [target]");
             sendMessage(sender, "&7Modes: survival, creative, adventure, spectator");
             return true;
         }
@@ -1051,132 +1051,63 @@ public final class EventTools extends JavaPlugin implements Listener {
             return true;
         }
 
-        String target = args.length > 1 ? args[1].toLowerCase() : "self";
+        TargetSelector selector = TargetSelector.parse(args.length > 1 ? args[1] : "self");
+        List<Player> targets = resolveTargets(sender, selector, true);
+        if (targets == null) return true;
 
-        int changed = 0;
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            boolean shouldChange = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                case "self" -> sender instanceof Player && ((Player) sender).getUniqueId().equals(player.getUniqueId());
-                default -> player.getName().equalsIgnoreCase(args[1]);
-            };
-
-            if (shouldChange) {
-                player.setGameMode(mode);
-                sendMessage(player, "&aYour gamemode was changed to " + mode.name().toLowerCase());
-                changed++;
-            }
-        }
+        bulkActions.submit(sender, "Changing gamemodes", targets, player -> {
+            player.setGameMode(mode);
+            sendMessage(player, "&aYour gamemode was changed to " + mode.name().toLowerCase());
+        }, () -> sendMessage(sender, String.format("&aChanged gamemode of %s to %s", selector.describe(targets), mode.name().toLowerCase())));
+        return true;
+    }
 
-        if (changed == 0 && !target.matches("all|alive|eliminated|self")) {
-            sendMessage(sender, "&cPlayer not found!");
+    private boolean handleEventToolsCommand(CommandSender sender, String[] args) {
+        if (args.length != 1 || !args[0].equalsIgnoreCase("reload")) {
+            sendMessage(sender, "&cUsage: /eventtools reload");
             return true;
         }
 
-        String targetName = target.matches("all|alive|eliminated") ?
-                target + " players" :
-                target.equals("self") ? "yourself" : args[1];
-        sendMessage(sender, String.format("&aChanged gamemode of %s to %s", targetName, mode.name().toLowerCase()));
+        reloadConfig();
+        loadSettings();
+        bulkActions.setBudget(settings.bulkActionBudgetMillis());
+        teamManager.loadRatings();
+
+        sendMessage(sender, "&aReloaded configuration (" + kits.getNames().size() + " kits)");
         return true;
     }
 
     private boolean handleKitCommand(CommandSender sender, String[] args) {
         if (args.length < 2) {
-            sendMessage(sender, "&cUsage: /kit <kitName> <player|all|alive|eliminated>");
+            sendMessage(sender, "&cUsage: /kit <kitName> <target>");
             return true;
         }
 
         String kitName = args[0].toLowerCase();
-        ConfigurationSection kitsSection = config.getConfigurationSection("kits");
+        KitTemplate kit = kits.get(kitName);
 
-        if (kitsSection == null || !kitsSection.contains(kitName)) {
+        if (kit == null) {
             sendMessage(sender, "&cKit '" + kitName + "' not found!");
-            sendMessage(sender, "&7Available kits: " + String.join(", ", kitsSection.getKeys(false)));
+            sendMessage(sender, "&7Available kits: " + String.join(", ", kits.getNames()));
             return true;
         }
 
-        int given = 0;
-        String target = args[1].toLowerCase();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.equals(sender)) continue;
-
-            boolean shouldGive = switch (target) {
-                case "all" -> true;
-                case "alive" -> !isEliminated(player);
-                case "eliminated" -> isEliminated(player);
-                default -> player.getName().equalsIgnoreCase(args[1]);
-            };
-
-            if (shouldGive) {
-                giveKit(player, kitName);
-                sendMessage(player, "&aYou received the " + kitName + " kit!");
-                given++;
-            }
-        }
-
-        if (given == 0 && !target.matches("all|alive|eliminated")) {
-            sendMessage(sender, "&cPlayer not found!");
-            return true;
-        }
+        TargetSelector selector = TargetSelector.parse(args[1]);
+        List<Player> targets = resolveTargets(sender, selector, false);
+        if (targets == null) return true;
 
-        String targetName = target.matches("all|alive|eliminated") ?
-                given + " player" + (given != 1 ? "s" : "") :
-                Bukkit.getPlayer(args[1]) != null ? Bukkit.getPlayer(args[1]).getName() : "target";
-        sendMessage(sender, String.format("&aGave %s kit to %s!", kitName, targetName));
+        bulkActions.submit(sender, "Giving " + kitName + " kit", targets, player -> {
+            giveKit(player, kit);
+            sendMessage(player, "&aYou received the " + kitName + " kit!");
+        }, () -> sendMessage(sender, String.format("&aGave %s kit to %s!", kitName, selector.describe(targets))));
         return true;
     }
 
-    private void giveKit(Player player, String kitName) {
-        ConfigurationSection kitSection = config.getConfigurationSection("kits." + kitName);
-        if (kitSection == null) return;
-
-        if (kitSection.getBoolean("clear-inventory", false)) {
-            player.getInventory().clear();
-        }
-
-        if (kitSection.contains("armor")) {
-            ConfigurationSection armorSection = kitSection.getConfigurationSection("armor");
-            if (armorSection != null) {
-                ItemStack helmet = getItemFromConfig(armorSection, "helmet");
-                ItemStack chestplate = getItemFromConfig(armorSection, "chestplate");
-                ItemStack leggings = getItemFromConfig(armorSection, "leggings");
-                ItemStack boots = getItemFromConfig(armorSection, "boots");
-
-                if (helmet != null) player.getInventory().setHelmet(helmet);
-                if (chestplate != null) player.getInventory().setChestplate(chestplate);
-                if (leggings != null) player.getInventory().setLeggings(leggings);
-                if (boots != null) player.getInventory().setBoots(boots);
-            }
-        }
-
-        if (kitSection.contains("items")) {
-            List<ItemStack> items = kitSection.getStringList("items").stream()
-                    .map(this::getItemFromString)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            for (ItemStack item : items) {
-                player.getInventory().addItem(item);
-            }
-        }
-
-        if (kitSection.contains("effects")) {
-            for (String effectKey : kitSection.getConfigurationSection("effects").getKeys(false)) {
-                PotionEffectType type = PotionEffectType.getByName(effectKey.toUpperCase());
-                if (type != null) {
-                    int duration = kitSection.getInt("effects." + effectKey + ".duration", 200) * 20;
-                    int amplifier = kitSection.getInt("effects." + effectKey + ".amplifier", 0);
-                    player.addPotionEffect(new PotionEffect(type, duration, amplifier));
-                }
-            }
-        }
-
-        if (kitSection.getBoolean("heal", false)) {
+    private void giveKit(Player player, KitTemplate kit) {
+        if (kit.heals()) {
             healPlayer(player);
         }
+        kit.apply(player);
     }
 
     private boolean handleTeamCommand(CommandSender sender, String[] args) {
@@ -1200,6 +1131,8 @@ public final class EventTools extends JavaPlugin implements Listener {
                 return handleTeamColor(sender, args);
             case "info":
                 return handleTeamInfo(sender);
+            case "squads":
+                return handleTeamSquads(sender, args);
             default:
                 sendTeamHelp(sender);
                 return true;
@@ -1226,6 +1159,27 @@ public final class EventTools extends JavaPlugin implements Listener {
         return true;
     }
 
+    private boolean handleTeamSquads(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sendMessage(sender, "&cUsage: /team squads <size>");
+            return true;
+        }
+        if (eventActive) {
+            sendMessage(sender, "&cSquads can only be created before the event starts!");
+            return true;
+        }
+
+        int size = parseInt(args[1], 0);
+        if (size < 1) {
+            sendMessage(sender, "&cSquad size must be at least 1!");
+            return true;
+        }
+
+        int squads = teamManager.createSquads(size);
+        sendMessage(sender, "&aCreated " + squads + " squads of up to " + size + " players");
+        return true;
+    }
+
     private boolean handleTeamDelete(CommandSender sender, String[] args) {
         if (args.length < 2) {
             sendMessage(sender, "&cUsage: /team delete <name>");
@@ -1252,7 +1206,7 @@ public final class EventTools extends JavaPlugin implements Listener {
             return true;
         }
 
-        if (target.hasPermission("eventtools.bypass")) {
+        if (isBypassed(target)) {
             sendMessage(sender, "&cYou can't assign staff to teams!");
             return true;
         }
@@ -1283,12 +1237,12 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
 
         Player player = (Player) sender;
-        if (player.hasPermission("eventtools.bypass")) {
+        if (isBypassed(player)) {
             sendMessage(sender, "&cStaff cannot join teams!");
             return true;
         }
 
-        if (teamManager.getPlayerTeam(player).isPresent()) {
+        if (teamManager.getTeamOf(player) != null) {
             sendMessage(sender, "&cYou are already in a team! Leave it first with /team leave");
             return true;
         }
@@ -1300,7 +1254,7 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
 
         if (teamManager.addToTeam(player, args[1])) {
-            sendMessage(sender, "&aYou have joined team " + team.getColor() + team.getName());
+            sendMessage(sender, "&aYou have joined team " + team.getColoredName());
             return true;
         }
 
@@ -1320,20 +1274,18 @@ public final class EventTools extends JavaPlugin implements Listener {
         }
 
         Player player = (Player) sender;
-        if (player.hasPermission("eventtools.bypass")) {
+        if (isBypassed(player)) {
             sendMessage(sender, "&cStaff cannot leave teams!");
             return true;
         }
 
-        Optional<Team> currentTeam = teamManager.getPlayerTeam(player);
-        if (!currentTeam.isPresent()) {
+        Team team = teamManager.getTeamOf(player);
+        if (team == null || !teamManager.removeFromTeam(player)) {
             sendMessage(sender, "&cYou are not in any team!");
             return true;
         }
 
-        Team team = currentTeam.get();
-        team.removeMember(player);
-        sendMessage(sender, "&aYou have left team " + team.getColor() + team.getName());
+        sendMessage(sender, "&aYou have left team " + team.getColoredName());
         return true;
     }
 
@@ -1367,8 +1319,7 @@ public final class EventTools extends JavaPlugin implements Listener {
 
         StringBuilder message = new StringBuilder("&6Active Teams:\n");
         teamManager.getActiveTeams().forEach(team -> {
-            message.append(team.getColor())
-                    .append(team.getName())
+            message.append(team.getColoredName())
                     .append(" &7(")
                     .append(team.size())
                     .append(" players): ");
@@ -1396,39 +1347,67 @@ public final class EventTools extends JavaPlugin implements Listener {
                         "&e/team assign <player> <team> &7- Assign a player to a team\n" +
                         "&e/team color <name> <color> &7- Change team color\n" +
                         "&e/team info &7- Show detailed team info\n" +
+                        "&e/team squads <size> &7- Split everyone into numbered squads\n" +
                         "&7Available colors: &f" + Arrays.toString(ChatColor.values())
         ));
     }
 
     public boolean eliminatePlayer(Player player) {
-        if (player.hasPermission("eventtools.bypass") || isEliminated(player)) {
+        return eliminatePlayer(player, settings.eliminationGameMode(), true);
+    }
+
+    private boolean eliminatePlayer(Player player, GameMode gameMode, boolean effects) {
+        if (isBypassed(player) || isEliminated(player)) {
             return false;
         }
 
-        String gamemodeName = config.getString("settings.elimination-gamemode", "SURVIVAL");
-        GameMode eliminationMode;
-        try {
-            eliminationMode = GameMode.valueOf(gamemodeName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            getLogger().warning("Invalid gamemode in config! Using SURVIVAL as fallback.");
-            eliminationMode = GameMode.SURVIVAL;
-        }
+        participants.eliminate(player);
+        eliminations.record(player);
+        teamManager.refreshMember(player);
+        zoneManager.refreshBorder(player);
 
-        player.getWorld().spawnParticle(Particle.EXPLOSION_LARGE, player.getLocation(), 1);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 0.8f);
-        eliminatedPlayers.add(player.getUniqueId());
-        eliminationOrder.add(player.getUniqueId());
-        player.setGameMode(eliminationMode);
+        scheduler.runFor(player, () -> {
+            if (effects) {
+                player.getWorld().spawnParticle(Particle.EXPLOSION_LARGE, player.getLocation(), 1);
+                player.getWorld().playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 0.8f);
+            }
+            player.setGameMode(gameMode);
+        });
         return true;
     }
 
+    public List<Player> eliminatePlayers(Collection<Player> players) {
+        GameMode gameMode = settings.eliminationGameMode();
+        List<Player> eliminated = new ArrayList<>();
+        for (Player player : players) {
+            if (eliminatePlayer(player, gameMode, eliminated.size() < MAX_BATCH_EFFECTS)) {
+                eliminated.add(player);
+            }
+        }
+
+        if (!eliminated.isEmpty()) {
+            broadcastMessage("&c" + summarizeNames(eliminated) + (eliminated.size() == 1 ? " has" : " have") + " been eliminated!");
+            checkForEventEnd();
+        }
+        return eliminated;
+    }
+
+    private String summarizeNames(List<Player> players) {
+        String names = players.stream()
+                .limit(MAX_SUMMARY_NAMES)
+                .map(Player::getName)
+                .collect(Collectors.joining(", "));
+        int remaining = players.size() - MAX_SUMMARY_NAMES;
+        return remaining > 0 ? names + " and " + remaining + " more" : names;
+    }
+
     public void handleElimination(Player player) {
         if (!eliminatePlayer(player)) return;
 
-        Optional<Team> team = teamManager.getPlayerTeam(player);
+        Team team = teamManager.getTeamOf(player);
 
-        if (team.isPresent()) {
-            broadcastMessage(team.get().getColor() + team.get().getName() +
+        if (team != null) {
+            broadcastMessage(team.getColoredName() +
                     " &7> &c" + player.getName() + " has been eliminated!");
         } else {
             broadcastMessage("&c" + player.getName() + " has been eliminated!");
@@ -1439,31 +1418,22 @@ public final class EventTools extends JavaPlugin implements Listener {
 
     private void checkForEventEnd() {
         if (teamManager.getTeamNames().isEmpty()) {
-            List<Player> remainingPlayers = Bukkit.getOnlinePlayers().stream()
-                    .filter(p -> !p.hasPermission("eventtools.bypass"))
-                    .filter(p -> !isEliminated(p))
-                    .collect(Collectors.toList());
-
-            if (remainingPlayers.size() <= 1) {
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        List<Player> finalPlayers = Bukkit.getOnlinePlayers().stream()
-                                .filter(p -> !p.hasPermission("eventtools.bypass"))
-                                .filter(p -> !isEliminated(p))
-                                .collect(Collectors.toList());
-
-                        if (finalPlayers.size() == 1) {
-                            Player winner = finalPlayers.get(0);
-                            broadcastWinnerEffects(winner);
-                        } else if (finalPlayers.isEmpty()) {
-                            broadcastMessage("&cAll players were eliminated!");
-                        }
-
-                        announceFinalPlacements();
-                        resetEvent();
+            if (participants.getAliveCount() <= 1 && ending.compareAndSet(false, true)) {
+                scheduler.run(() -> {
+                    if (!eventActive) return;
+
+                    List<Player> finalPlayers = new ArrayList<>(participants.getAlive());
+
+                    if (finalPlayers.size() == 1) {
+                        Player winner = finalPlayers.get(0);
+                        broadcastWinnerEffects(winner);
+                    } else if (finalPlayers.isEmpty()) {
+                        broadcastMessage("&cAll players were eliminated!");
                     }
-                }.runTask(this);
+
+                    announceFinalPlacements();
+                    resetEvent();
+                });
             }
         } else {
             teamManager.checkForTeamVictory();
@@ -1476,60 +1446,88 @@ public final class EventTools extends JavaPlugin implements Listener {
                 p.playSound(winner.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 0.5f)
         );
 
-        new BukkitRunnable() {
-            int fireworksLeft = 15;
-            Random random = new Random();
+        Random random = new Random();
+        int[] fireworksLeft = {15};
+        scheduler.runTimerFor(winner, task -> {
+            if (fireworksLeft[0] <= 0) {
+                task.cancel();
+                return;
+            }
 
-            @Override
-            public void run() {
-                if (fireworksLeft <= 0) {
-                    cancel();
-                    return;
-                }
+            Firework fw = winner.getWorld().spawn(winner.getLocation(), Firework.class);
+            FireworkMeta meta = fw.getFireworkMeta();
 
-                Firework fw = winner.getWorld().spawn(winner.getLocation(), Firework.class);
-                FireworkMeta meta = fw.getFireworkMeta();
+            FireworkEffect.Type type = FireworkEffect.Type.values()[random.nextInt(FireworkEffect.Type.values().length)];
+            Color color = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            Color fade = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
 
-                FireworkEffect.Type type = FireworkEffect.Type.values()[random.nextInt(FireworkEffect.Type.values().length)];
-                Color color = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
-                Color fade = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            meta.addEffect(FireworkEffect.builder()
+                    .with(type)
+                    .withColor(color)
+                    .withFade(fade)
+                    .trail(random.nextBoolean())
+                    .flicker(random.nextBoolean())
+                    .build());
 
-                meta.addEffect(FireworkEffect.builder()
-                        .with(type)
-                        .withColor(color)
-                        .withFade(fade)
-                        .trail(random.nextBoolean())
-                        .flicker(random.nextBoolean())
-                        .build());
+            meta.setPower(1 + random.nextInt(2));
+            fw.setFireworkMeta(meta);
 
-                meta.setPower(1 + random.nextInt(2));
-                fw.setFireworkMeta(meta);
+            Bukkit.getOnlinePlayers().forEach(p ->
+                    p.playSound(winner.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 1.0f, 1.0f)
+            );
 
-                Bukkit.getOnlinePlayers().forEach(p ->
-                        p.playSound(winner.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 1.0f, 1.0f)
-                );
+            fireworksLeft[0]--;
+        }, 0L, 10L);
+    }
 
-                fireworksLeft--;
+    private boolean revivePlayer(CommandSender sender, Player player) {
+        if (!revivePlayer(player)) return false;
+
+        Location destination = sender instanceof Player senderPlayer ? senderPlayer.getLocation() : spawnLocation;
+        if (destination != null) {
+            teleports.teleport(player, destination);
+        }
+        return true;
+    }
+
+    private List<Player> revivePlayers(CommandSender sender, Collection<Player> players) {
+        List<Player> revived = new ArrayList<>();
+        for (Player player : players) {
+            if (revivePlayer(player)) {
+                revived.add(player);
             }
-        }.runTaskTimer(this, 0L, 10L);
+        }
+
+        if (!revived.isEmpty()) {
+            broadcastMessage("&a" + summarizeNames(revived) + (revived.size() == 1 ? " has" : " have") + " been revived!");
+        }
+
+        Location destination = sender instanceof Player senderPlayer ? senderPlayer.getLocation() : spawnLocation;
+        if (destination != null && !revived.isEmpty()) {
+            teleports.teleport(revived, destination, null, result -> {
+                if (result.failed() > 0) {
+                    sendMessage(sender, "&c" + result.failed() + " revived player(s) could not be teleported.");
+                } else {
+                    sendMessage(sender, "&aAll revived players have been teleported.");
+                }
+            });
+        }
+        return revived;
     }
 
-    private boolean revivePlayer(CommandSender sender, Player player) {
-        if (player.hasPermission("eventtools.bypass") || !isEliminated(player)) {
+    private boolean revivePlayer(Player player) {
+        if (isBypassed(player) || !isEliminated(player)) {
             return false;
         }
-        eliminatedPlayers.remove(player.getUniqueId());
-        eliminationOrder.remove(player.getUniqueId());
-        player.setGameMode(GameMode.SURVIVAL);
+        participants.revive(player);
+        eliminations.remove(player.getUniqueId());
+        teamManager.refreshMember(player);
+        zoneManager.reset(player);
+        zoneManager.refreshBorder(player);
 
         teamManager.handleRevival(player);
 
-        if (sender instanceof Player senderPlayer) {
-            safeTeleport(player, senderPlayer.getLocation());
-        } else if (spawnLocation != null) {
-            safeTeleport(player, spawnLocation);
-        }
-
+        scheduler.runFor(player, () -> player.setGameMode(GameMode.SURVIVAL));
         return true;
     }
 
@@ -1537,37 +1535,16 @@ public final class EventTools extends JavaPlugin implements Listener {
         player.setWalkSpeed(freeze ? 0 : 0.2f);
         player.setFlySpeed(freeze ? 0 : 0.1f);
         player.setInvulnerable(freeze);
+        zoneManager.resync(player);
         sendMessage(player, freeze ? "&cYou have been frozen!" : "&aYou have been unfrozen!");
     }
 
-    private void safeTeleport(Player player, Location location) {
-        try {
-            player.teleport(location);
-        } catch (Exception e) {
-            getLogger().warning("Failed to teleport player " + player.getName() + ": " + e.getMessage());
-        }
-    }
-
     private void announceFinalPlacements() {
-        List<Player> placements = new ArrayList<>();
-
-        Player winner = Bukkit.getOnlinePlayers().stream()
-                .filter(p -> !p.hasPermission("eventtools.bypass"))
-                .filter(p -> !isEliminated(p))
-                .findFirst()
-                .orElse(null);
-        if (winner != null) placements.add(winner);
-
-        synchronized (eliminationOrder) {
-            for (int i = eliminationOrder.size() - 1; i >= 0; i--) {
-                UUID playerId = eliminationOrder.get(i);
-                Player p = Bukkit.getPlayer(playerId);
-                if (p != null && isEliminated(p) && !placements.contains(p)) {
-                    placements.add(p);
-                    if (placements.size() >= 4) break;
-                }
-            }
-        }
+        List<EliminationLedger.Placement> placements = eliminations.placements(participants.getAlive());
+        Map<UUID, Integer> placeIndex = new HashMap<>(placements.size() * 2);
+        placements.forEach(placement -> placeIndex.put(placement.uuid(), placement.place()));
+        lastPlacements = Collections.unmodifiableList(placements);
+        lastPlaceIndex = placeIndex;
 
         broadcastMessage("&6&lEvent Results:");
         String[] suffixes = {"1st", "2nd", "3rd", "4th", "5th"};
@@ -1575,19 +1552,17 @@ public final class EventTools extends JavaPlugin implements Listener {
         String[] icons = {"🥇 ", "🥈 ", "🥉 ", "", ""};
 
         for (int i = 0; i < Math.min(5, placements.size()); i++) {
-            String placement = colors[i] + icons[i] + suffixes[i] + ": &r" + placements.get(i).getName();
+            String placement = colors[i] + icons[i] + suffixes[i] + ": &r" + placements.get(i).name();
             broadcastMessage(placement);
         }
     }
 
     public void broadcastTitle(String title, String subtitle) {
-        Bukkit.getOnlinePlayers().forEach(p ->
-                p.sendTitle(
-                        ChatColor.translateAlternateColorCodes('&', title),
-                        ChatColor.translateAlternateColorCodes('&', subtitle),
-                        10, 70, 20
-                )
-        );
+        String coloredTitle = ChatColor.translateAlternateColorCodes('&', title);
+        String coloredSubtitle = ChatColor.translateAlternateColorCodes('&', subtitle);
+        Bukkit.getOnlinePlayers().forEach(p -> scheduler.runFor(p, () ->
+                p.sendTitle(coloredTitle, coloredSubtitle, 10, 70, 20)
+        ));
     }
 
     private void sendMessage(CommandSender sender, String message) {
@@ -1598,35 +1573,15 @@ public final class EventTools extends JavaPlugin implements Listener {
         Bukkit.broadcastMessage(ChatColor.translateAlternateColorCodes('&', message));
     }
 
-    private ItemStack getItemFromConfig(ConfigurationSection section, String path) {
-        if (!section.contains(path)) return null;
-        return getItemFromString(section.getString(path));
-    }
-
-    private ItemStack getItemFromString(String itemString) {
-        try {
-            String[] parts = itemString.split(":");
-            Material material = Material.matchMaterial(parts[0]);
-            if (material == null) return null;
-
-            int amount = parts.length > 1 ? parseInt(parts[1], 1) : 1;
-            ItemStack item = new ItemStack(material, amount);
-
-            if (parts.length > 2) {
-                item.setDurability(Short.parseShort(parts[2]));
-            }
-
-            return item;
-        } catch (Exception e) {
-            getLogger().warning("Failed to parse item: " + itemString);
-            return null;
-        }
-    }
-
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        if (player.hasPermission("eventtools.bypass")) return;
+        participants.join(player);
+        teamManager.refreshMember(player);
+        if (isBypassed(player)) return;
+        if (eventActive) {
+            eliminations.enroll(player);
+        }
 
         if (eventActive && !disconnectedPlayers.remove(player.getUniqueId())) {
             eliminatePlayer(player);
@@ -1637,28 +1592,60 @@ public final class EventTools extends JavaPlugin implements Listener {
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
-        if (player.hasPermission("eventtools.bypass")) return;
+        boolean bypassed = isBypassed(player);
+        zoneManager.forgetPlayer(player);
+        participants.quit(player);
+        teamManager.markOffline(player);
+        if (bypassed) return;
 
         if (eventActive && isEliminated(player)) {
             disconnectedPlayers.add(player.getUniqueId());
         }
     }
 
+    @EventHandler
+    public void onCommandsSent(PlayerCommandSendEvent event) {
+        if (participants.refreshBypass(event.getPlayer())) {
+            zoneManager.refreshBorder(event.getPlayer());
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        zoneManager.recheck(event.getPlayer());
+    }
+
     @EventHandler
     public void onPlayerDeath(PlayerDeathEvent event) {
         if (!eventActive) return;
 
         Player player = event.getEntity();
-        if (player.hasPermission("eventtools.bypass")) return;
+        if (isBypassed(player)) return;
 
         handleElimination(player);
     }
 
+    @EventHandler
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        Player player = event.getPlayer();
+        scheduler.runLaterFor(player, () -> zoneManager.resync(player), 1L);
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onPotionEffectChange(EntityPotionEffectEvent event) {
+        if (!(event.getEntity() instanceof Player player)) return;
+        if (event.getCause() == EntityPotionEffectEvent.Cause.PLUGIN) return;
+        if (event.getAction() != EntityPotionEffectEvent.Action.REMOVED
+                && event.getAction() != EntityPotionEffectEvent.Action.CLEARED) return;
+
+        scheduler.runLaterFor(player, () -> zoneManager.resync(player), 1L);
+    }
+
     @EventHandler
     public void onChat(AsyncPlayerChatEvent event) {
         Player player = event.getPlayer();
 
-        if (chatMuted && !player.hasPermission("eventtools.bypass")) {
+        if (chatMuted && !isBypassed(player)) {
             event.setCancelled(true);
             sendMessage(player, "&cChat is currently muted!");
             return;
@@ -1733,11 +1720,15 @@ public final class EventTools extends JavaPlugin implements Listener {
                 }
                 break;
 
+            case "eventtools":
+                if (args.length == 1) {
+                    completions.add("reload");
+                }
+                break;
+
             case "kit":
                 if (args.length == 1) {
-                    if (config.getConfigurationSection("kits") != null) {
-                        completions.addAll(config.getConfigurationSection("kits").getKeys(false));
-                    }
+                    completions.addAll(kits.getNames());
                 } else if (args.length == 2) {
                     addTargetCompletions(completions);
                 }
@@ -1747,8 +1738,8 @@ public final class EventTools extends JavaPlugin implements Listener {
                 if (args.length == 1) {
                     completions.addAll(Arrays.asList("survival", "creative", "adventure", "spectator"));
                 } else if (args.length == 2) {
-                    completions.addAll(Arrays.asList("all", "alive", "eliminated"));
-                    completions.addAll(getOnlinePlayerNames());
+                    completions.add("self");
+                    addTargetCompletions(completions);
                 }
                 break;
 
@@ -1777,7 +1768,7 @@ public final class EventTools extends JavaPlugin implements Listener {
 
             case "zone":
                 if (args.length == 1) {
-                    return filterCompletions(Arrays.asList("create", "delete", "list", "toggle"), args[0]);
+                    return filterCompletions(Arrays.asList("create", "delete", "list", "toggle", "shrink", "border"), args[0]);
                 } else if (args.length == 2 && args[0].equalsIgnoreCase("create")) {
                     return filterCompletions(Collections.singletonList("<name>"), args[1]);
                 } else if (args.length == 3 && args[0].equalsIgnoreCase("create")) {
@@ -1793,15 +1784,20 @@ public final class EventTools extends JavaPlugin implements Listener {
                                     .collect(Collectors.toList()),
                             args[5]
                     );
-                } else if (args.length == 2 && (args[0].equalsIgnoreCase("delete") || args[0].equalsIgnoreCase("toggle"))) {
+                } else if (args.length == 2 && (args[0].equalsIgnoreCase("delete") || args[0].equalsIgnoreCase("toggle")
+                        || args[0].equalsIgnoreCase("shrink") || args[0].equalsIgnoreCase("border"))) {
                     return filterCompletions(zoneManager.getZoneNames(), args[1]);
+                } else if (args.length == 3 && args[0].equalsIgnoreCase("shrink")) {
+                    return filterCompletions(Collections.singletonList("<radius>"), args[2]);
+                } else if (args.length == 4 && args[0].equalsIgnoreCase("shrink")) {
+                    return filterCompletions(Collections.singletonList("<seconds>"), args[3]);
                 }
                 break;
 
             case "team":
                 if (args.length == 1) {
                     return filterCompletions(Arrays.asList(
-                            "create", "delete", "join", "leave", "assign", "color", "info"
+                            "create", "delete", "join", "leave", "assign", "color", "info", "squads"
                     ), args[0]);
                 } else if (args.length == 2) {
                     switch (args[0].toLowerCase()) {
@@ -1812,6 +1808,8 @@ public final class EventTools extends JavaPlugin implements Listener {
                             return filterCompletions(teamManager.getTeamNames(), args[1]);
                         case "assign":
                             return filterCompletions(getOnlinePlayerNames(), args[1]);
+                        case "squads":
+                            return filterCompletions(Arrays.asList("2", "3", "4"), args[1]);
                     }
                 } else if (args.length == 3) {
                     switch (args[0].toLowerCase()) {
@@ -1846,7 +1844,9 @@ public final class EventTools extends JavaPlugin implements Listener {
     }
 
     private void addTargetCompletions(List<String> completions) {
-        completions.addAll(Arrays.asList("all", "alive", "eliminated"));
+        completions.addAll(Arrays.asList("all", "alive", "eliminated", "radius:"));
+        teamManager.getTeamNames().forEach(name -> completions.add("team:" + name));
+        zoneManager.getZoneNames().forEach(name -> completions.add("zone:" + name));
         completions.addAll(getOnlinePlayerNames());
     }
 
@@ -1,13 +1,14 @@
 package net.mattwhyy.eventTools;
 
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import net.mattwhyy.eventTools.participants.EliminationLedger;
 import net.mattwhyy.eventTools.teams.Team;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
+import java.util.List;
 
 public class EventToolsExpansion extends PlaceholderExpansion {
     private final EventTools plugin;
@@ -40,20 +41,25 @@ public class EventToolsExpansion extends PlaceholderExpansion {
     public @Nullable String onPlaceholderRequest(Player player, @NotNull String params) {
         if (player == null) return "";
 
+        if (params.toLowerCase().startsWith("placement_")) {
+            List<EliminationLedger.Placement> placements = plugin.getLastPlacements();
+            try {
+                int place = Integer.parseInt(params.substring("placement_".length()));
+                return place >= 1 && place <= placements.size() ? placements.get(place - 1).name() : "None";
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
         switch (params.toLowerCase()) {
             case "alive_count":
-                return String.valueOf(Bukkit.getOnlinePlayers().stream()
-                        .filter(p -> !plugin.isEliminated(p))
-                        .filter(p -> !p.hasPermission("eventtools.bypass"))
-                        .count());
+                return String.valueOf(plugin.participants.getAliveCount());
 
             case "eliminated_count":
-                return String.valueOf(plugin.eliminatedPlayers.size());
+                return String.valueOf(plugin.participants.getEliminatedCount());
 
             case "all_players_count":
-                return String.valueOf(Bukkit.getOnlinePlayers().stream()
-                        .filter(p -> !p.hasPermission("eventtools.bypass"))
-                        .count());
+                return String.valueOf(plugin.participants.getParticipantCount());
 
             case "is_eliminated":
                 if (params.contains("_")) {
@@ -64,6 +70,11 @@ public class EventToolsExpansion extends PlaceholderExpansion {
 
                 return plugin.isEliminated(player) ? "Yes" : "No";
 
+            case "placement": {
+                int place = plugin.getLastPlacement(player.getUniqueId());
+                return place > 0 ? String.valueOf(place) : "None";
+            }
+
             case "event_active":
                 return plugin.eventActive ? "Yes" : "No";
 
@@ -97,43 +108,40 @@ public class EventToolsExpansion extends PlaceholderExpansion {
                 return !plugin.eventActive ? "None" :
                         (plugin.eventTitle != null ? plugin.eventTitle : "Event");
 
-            case "team_name":
-                return plugin.teamManager.getPlayerTeam(player)
-                        .map(Team::getName)
-                        .orElse("No Team");
-
-            case "team_color":
-                return plugin.teamManager.getPlayerTeam(player)
-                        .map(team -> team.getColor().toString())
-                        .orElse("");
-
-            case "team_color_code":
-                return plugin.teamManager.getPlayerTeam(player)
-                        .map(team -> "&" + team.getColor().getChar())
-                        .orElse("&f");
-
-            case "team_size":
-                return plugin.teamManager.getPlayerTeam(player)
-                        .map(team -> String.valueOf(team.size()))
-                        .orElse("0");
-
-            case "team_alive_count":
-                return plugin.teamManager.getPlayerTeam(player)
-                        .map(team -> String.valueOf(team.getMembers().stream()
-                                .map(Bukkit::getPlayer)
-                                .filter(Objects::nonNull)
-                                .filter(p -> !plugin.isEliminated(p))
-                                .count()))
-                        .orElse("0");
-
-            case "team_eliminated_count":
-                return plugin.teamManager.getPlayerTeam(player)
-                        .map(team -> String.valueOf(team.getMembers().stream()
-                                .map(Bukkit::getPlayer)
-                                .filter(Objects::nonNull)
-                                .filter(plugin::isEliminated)
-                                .count()))
-                        .orElse("0");
+            case "team_name": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? team.getName() : "No Team";
+            }
+
+            case "team_color": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? team.getColorCode() : "";
+            }
+
+            case "team_color_code": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? "&" + team.getColor().getChar() : "&f";
+            }
+
+            case "team_size": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? String.valueOf(team.size()) : "0";
+            }
+
+            case "team_alive_count": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? String.valueOf(team.getAliveCount()) : "0";
+            }
+
+            case "team_eliminated_count": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? String.valueOf(team.getEliminatedCount()) : "0";
+            }
+
+            case "team_offline_count": {
+                Team team = plugin.teamManager.getTeamOf(player);
+                return team != null ? String.valueOf(team.getOfflineCount()) : "0";
+            }
 
             default:
                 return null;
@@ -0,0 +1,136 @@
+package net.mattwhyy.eventTools;
+
+import net.mattwhyy.eventTools.teams.Team;
+import net.mattwhyy.eventTools.zones.EventZone;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public final class TargetSelector {
+    private final Kind kind;
+    private final String argument;
+    private final double radiusSquared;
+    private final String[] names;
+
+    private TargetSelector(Kind kind, String argument, double radius, String[] names) {
+        this.kind = kind;
+        this.argument = argument;
+        this.radiusSquared = radius * radius;
+        this.names = names;
+    }
+
+    public static TargetSelector parse(String expression) {
+        String lower = expression.toLowerCase();
+        switch (lower) {
+            case "all": return new TargetSelector(Kind.ALL, null, 0, null);
+            case "alive": return new TargetSelector(Kind.ALIVE, null, 0, null);
+            case "eliminated": return new TargetSelector(Kind.ELIMINATED, null, 0, null);
+            case "self": return new TargetSelector(Kind.SELF, null, 0, null);
+        }
+
+        int colon = lower.indexOf(':');
+        if (colon < 0) {
+            return new TargetSelector(Kind.PLAYERS, null, 0, lower.split(","));
+        }
+
+        String value = expression.substring(colon + 1);
+        if (value.isEmpty()) return null;
+
+        switch (lower.substring(0, colon)) {
+            case "team": return new TargetSelector(Kind.TEAM, value, 0, null);
+            case "zone": return new TargetSelector(Kind.ZONE, value, 0, null);
+            case "radius":
+                try {
+                    double radius = Double.parseDouble(value);
+                    return radius > 0 ? new TargetSelector(Kind.RADIUS, null, radius, null) : null;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            default: return null;
+        }
+    }
+
+    public List<Player> resolve(EventTools plugin, CommandSender sender, boolean includeSender) {
+        List<Player> targets = new ArrayList<>();
+        CommandSender excluded = includeSender ? null : sender;
+
+        switch (kind) {
+            case ALL -> addAll(targets, Bukkit.getOnlinePlayers(), excluded);
+            case ALIVE -> {
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    if (player != excluded && !plugin.isEliminated(player)) targets.add(player);
+                }
+            }
+            case ELIMINATED -> addAll(targets, plugin.participants.getEliminated(), excluded);
+            case SELF -> {
+                if (includeSender && sender instanceof Player player) targets.add(player);
+            }
+            case TEAM -> {
+                Team team = plugin.teamManager.getTeam(argument);
+                if (team == null) break;
+
+                for (UUID uuid : team.getMembers()) {
+                    Player player = Bukkit.getPlayer(uuid);
+                    if (player != null && player != excluded) targets.add(player);
+                }
+            }
+            case ZONE -> {
+                EventZone zone = plugin.getZoneManager().getZone(argument);
+                if (zone == null) break;
+
+                Location buffer = new Location(null, 0, 0, 0);
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    if (player != excluded && zone.contains(player.getLocation(buffer))) targets.add(player);
+                }
+            }
+            case RADIUS -> {
+                if (!(sender instanceof Player origin)) break;
+
+                Location center = origin.getLocation();
+                Location buffer = new Location(null, 0, 0, 0);
+                for (Player player : origin.getWorld().getPlayers()) {
+                    if (player != excluded && player.getLocation(buffer).distanceSquared(center) <= radiusSquared) {
+                        targets.add(player);
+                    }
+                }
+            }
+            case PLAYERS -> {
+                for (String name : names) {
+                    Player player = plugin.participants.getByName(name);
+                    if (player != null && player != excluded && !targets.contains(player)) targets.add(player);
+                }
+            }
+        }
+        return targets;
+    }
+
+    public boolean requiresPlayer() {
+        return kind == Kind.SELF || kind == Kind.RADIUS;
+    }
+
+    public boolean isGroup() {
+        return kind != Kind.PLAYERS && kind != Kind.SELF;
+    }
+
+    public String describe(List<Player> targets) {
+        if (kind == Kind.SELF) return "yourself";
+        if (!isGroup() && targets.size() == 1) return targets.get(0).getName();
+        return targets.size() + " player" + (targets.size() != 1 ? "s" : "");
+    }
+
+    private static void addAll(List<Player> targets, Collection<? extends Player> players, CommandSender excluded) {
+        for (Player player : players) {
+            if (player != excluded) targets.add(player);
+        }
+    }
+
+    private enum Kind {
+        ALL, ALIVE, ELIMINATED, SELF, TEAM, ZONE, RADIUS, PLAYERS
+    }
+}
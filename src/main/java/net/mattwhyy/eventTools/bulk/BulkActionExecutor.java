@@ -0,0 +1,146 @@
+package net.mattwhyy.eventTools.bulk;
+
+import net.mattwhyy.eventTools.scheduler.EventTask;
+import net.mattwhyy.eventTools.scheduler.TaskScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class BulkActionExecutor {
+    public static final double DEFAULT_BUDGET_MILLIS = 5;
+    private static final int MAX_ACTIONS_PER_TICK = 200;
+
+    private final TaskScheduler scheduler;
+    private final Queue<Job> jobs = new ConcurrentLinkedQueue<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final EventTask task;
+    private volatile long budgetNanos;
+
+    public BulkActionExecutor(TaskScheduler scheduler, double budgetMillis) {
+        this.scheduler = scheduler;
+        setBudget(budgetMillis);
+        this.task = scheduler.runTimer(task -> drain(), 1L, 1L);
+    }
+
+    public void setBudget(double budgetMillis) {
+        budgetNanos = (long) (Math.max(0.1, budgetMillis) * 1_000_000);
+    }
+
+    public void submit(CommandSender sender, String title, Collection<Player> players,
+                       Consumer<Player> action, Runnable onComplete) {
+        if (players.isEmpty()) {
+            if (onComplete != null) onComplete.run();
+            return;
+        }
+
+        jobs.add(new Job(epoch.get(), sender, title, players, action, onComplete));
+    }
+
+    public void cancelAll() {
+        epoch.incrementAndGet();
+    }
+
+    public void shutdown() {
+        task.cancel();
+        Job job;
+        while ((job = jobs.poll()) != null) {
+            job.hideProgress();
+        }
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + budgetNanos;
+        long current = epoch.get();
+        int actions = 0;
+
+        Job job;
+        while ((job = jobs.peek()) != null) {
+            if (job.epoch != current) {
+                jobs.poll();
+                job.cancel();
+                continue;
+            }
+
+            while (!job.remaining.isEmpty() && actions < MAX_ACTIONS_PER_TICK && System.nanoTime() < deadline) {
+                job.runNext();
+                actions++;
+            }
+
+            if (!job.remaining.isEmpty()) {
+                job.showProgress();
+                return;
+            }
+
+            jobs.poll();
+            job.complete();
+        }
+    }
+
+    private class Job {
+        private final long epoch;
+        private final CommandSender sender;
+        private final String title;
+        private final ArrayDeque<Player> remaining;
+        private final Consumer<Player> action;
+        private final Runnable onComplete;
+        private final int total;
+        private BossBar progress;
+
+        Job(long epoch, CommandSender sender, String title, Collection<Player> players,
+            Consumer<Player> action, Runnable onComplete) {
+            this.epoch = epoch;
+            this.sender = sender;
+            this.title = title;
+            this.remaining = new ArrayDeque<>(players);
+            this.action = action;
+            this.onComplete = onComplete;
+            this.total = players.size();
+        }
+
+        void runNext() {
+            Player player = remaining.poll();
+            if (player == null || !player.isOnline()) return;
+
+            scheduler.runFor(player, () -> action.accept(player));
+        }
+
+        void showProgress() {
+            if (!(sender instanceof Player viewer) || !viewer.isOnline()) return;
+
+            if (progress == null) {
+                progress = Bukkit.createBossBar(ChatColor.GOLD + title, BarColor.YELLOW, BarStyle.SEGMENTED_10);
+                progress.addPlayer(viewer);
+            }
+            progress.setProgress((double) (total - remaining.size()) / total);
+        }
+
+        void hideProgress() {
+            if (progress != null) {
+                progress.removeAll();
+                progress = null;
+            }
+        }
+
+        void complete() {
+            hideProgress();
+            if (onComplete != null) onComplete.run();
+        }
+
+        void cancel() {
+            hideProgress();
+            sender.sendMessage(ChatColor.RED + title + " cancelled after "
+                    + (total - remaining.size()) + "/" + total + " players.");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.mattwhyy.eventTools.kits;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+public class KitRegistry {
+    private static final String[] ARMOR_SLOTS = {"boots", "leggings", "chestplate", "helmet"};
+
+    private final Logger logger;
+    private volatile Map<String, KitTemplate> kits = Map.of();
+    private volatile List<String> names = List.of();
+
+    public KitRegistry(Logger logger) {
+        this.logger = logger;
+    }
+
+    public void load(ConfigurationSection section) {
+        Map<String, KitTemplate> compiled = new LinkedHashMap<>();
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                ConfigurationSection kitSection = section.getConfigurationSection(key);
+                if (kitSection == null) {
+                    logger.warning("Kit '" + key + "' is not a section, skipping");
+                    continue;
+                }
+                compiled.put(key.toLowerCase(), compile(key.toLowerCase(), kitSection));
+            }
+        }
+
+        names = List.copyOf(compiled.keySet());
+        kits = Collections.unmodifiableMap(compiled);
+    }
+
+    public KitTemplate get(String name) {
+        return kits.get(name.toLowerCase());
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    private KitTemplate compile(String name, ConfigurationSection section) {
+        ItemStack[] armor = new ItemStack[ARMOR_SLOTS.length];
+        ConfigurationSection armorSection = section.getConfigurationSection("armor");
+        if (armorSection != null) {
+            for (int slot = 0; slot < ARMOR_SLOTS.length; slot++) {
+                String value = armorSection.getString(ARMOR_SLOTS[slot]);
+                if (value != null) armor[slot] = parseItem(name, value);
+            }
+        }
+
+        List<ItemStack> items = new ArrayList<>();
+        for (String value : section.getStringList("items")) {
+            ItemStack item = parseItem(name, value);
+            if (item == null) continue;
+
+            int maxStack = Math.max(1, item.getMaxStackSize());
+            for (int remaining = item.getAmount(); remaining > 0; remaining -= maxStack) {
+                ItemStack stack = item.clone();
+                stack.setAmount(Math.min(remaining, maxStack));
+                items.add(stack);
+            }
+        }
+
+        List<PotionEffect> effects = new ArrayList<>();
+        ConfigurationSection effectsSection = section.getConfigurationSection("effects");
+        if (effectsSection != null) {
+            for (String effectKey : effectsSection.getKeys(false)) {
+                PotionEffectType type = PotionEffectType.getByName(effectKey.toUpperCase());
+                if (type == null) {
+                    logger.warning("Unknown effect '" + effectKey + "' in kit " + name);
+                    continue;
+                }
+
+                int duration = effectsSection.getInt(effectKey + ".duration", 200) * 20;
+                int amplifier = effectsSection.getInt(effectKey + ".amplifier", 0);
+                effects.add(new PotionEffect(type, duration, amplifier));
+            }
+        }
+
+        return new KitTemplate(name,
+                section.getBoolean("clear-inventory", false),
+                section.getBoolean("heal", false),
+                armor, items.toArray(new ItemStack[0]), effects);
+    }
+
+    private ItemStack parseItem(String kit, String itemString) {
+        try {
+            String[] parts = itemString.split(":");
+            Material material = Material.matchMaterial(parts[0]);
+            if (material == null) {
+                logger.warning("Unknown material '" + parts[0] + "' in kit " + kit);
+                return null;
+            }
+
+            int amount = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            ItemStack item = new ItemStack(material, Math.max(1, amount));
+
+            if (parts.length > 2) {
+                item.setDurability(Short.parseShort(parts[2]));
+            }
+
+            return item;
+        } catch (Exception e) {
+            logger.warning("Failed to parse item '" + itemString + "' in kit " + kit);
+            return null;
+        }
+    }
+}
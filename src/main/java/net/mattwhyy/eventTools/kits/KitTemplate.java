@@ -0,0 +1,61 @@
+package net.mattwhyy.eventTools.kits;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.potion.PotionEffect;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class KitTemplate {
+    private static final int STORAGE_SLOTS = 36;
+
+    private final String name;
+    private final boolean clearInventory;
+    private final boolean heal;
+    private final ItemStack[] armor;
+    private final ItemStack[] items;
+    private final ItemStack[] storage;
+    private final List<PotionEffect> effects;
+
+    KitTemplate(String name, boolean clearInventory, boolean heal, ItemStack[] armor,
+                ItemStack[] items, List<PotionEffect> effects) {
+        this.name = name;
+        this.clearInventory = clearInventory;
+        this.heal = heal;
+        this.armor = armor;
+        this.items = items;
+        this.storage = items.length > STORAGE_SLOTS ? Arrays.copyOf(items, STORAGE_SLOTS) : items;
+        this.effects = List.copyOf(effects);
+    }
+
+    public void apply(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        if (clearInventory) {
+            inventory.setStorageContents(copy(storage));
+            inventory.setArmorContents(copy(armor));
+            inventory.setItemInOffHand(null);
+        } else {
+            ItemStack[] worn = inventory.getArmorContents();
+            for (int slot = 0; slot < armor.length; slot++) {
+                if (armor[slot] != null) worn[slot] = armor[slot].clone();
+            }
+            inventory.setArmorContents(worn);
+            if (items.length > 0) inventory.addItem(copy(items));
+        }
+
+        if (!effects.isEmpty()) player.addPotionEffects(effects);
+    }
+
+    public String getName() { return name; }
+    public boolean heals() { return heal; }
+
+    private static ItemStack[] copy(ItemStack[] template) {
+        ItemStack[] copy = new ItemStack[template.length];
+        for (int i = 0; i < template.length; i++) {
+            if (template[i] != null) copy[i] = template[i].clone();
+        }
+        return copy;
+    }
+}
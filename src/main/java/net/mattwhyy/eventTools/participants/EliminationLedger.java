@@ -0,0 +1,64 @@
+package net.mattwhyy.eventTools.participants;
+
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+public class EliminationLedger {
+    private final Map<UUID, Entry> entries = new LinkedHashMap<>();
+    private final Map<UUID, String> roster = new LinkedHashMap<>();
+
+    public synchronized void enroll(Player player) {
+        roster.put(player.getUniqueId(), player.getName());
+    }
+
+    public synchronized void record(Player player) {
+        roster.put(player.getUniqueId(), player.getName());
+        entries.remove(player.getUniqueId());
+        entries.put(player.getUniqueId(), new Entry(player.getName(), System.currentTimeMillis()));
+    }
+
+    public synchronized boolean remove(UUID uuid) {
+        return entries.remove(uuid) != null;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        roster.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public List<Placement> placements(Collection<Player> survivors) {
+        List<Map.Entry<UUID, Entry>> eliminated;
+        List<Map.Entry<UUID, String>> enrolled;
+        synchronized (this) {
+            eliminated = new ArrayList<>(entries.entrySet());
+            enrolled = new ArrayList<>(roster.entrySet());
+        }
+
+        List<Placement> placements = new ArrayList<>(enrolled.size() + survivors.size());
+        Set<UUID> placed = new HashSet<>();
+        eliminated.forEach(entry -> placed.add(entry.getKey()));
+        for (Player player : survivors) {
+            if (!placed.add(player.getUniqueId())) continue;
+            placements.add(new Placement(placements.size() + 1, player.getUniqueId(), player.getName(), -1));
+        }
+        for (Map.Entry<UUID, String> entry : enrolled) {
+            if (!placed.add(entry.getKey())) continue;
+            placements.add(new Placement(placements.size() + 1, entry.getKey(), entry.getValue(), -1));
+        }
+        for (int i = eliminated.size() - 1; i >= 0; i--) {
+            Map.Entry<UUID, Entry> entry = eliminated.get(i);
+            placements.add(new Placement(placements.size() + 1, entry.getKey(),
+                    entry.getValue().name(), entry.getValue().eliminatedAt()));
+        }
+        return placements;
+    }
+
+    private record Entry(String name, long eliminatedAt) {}
+
+    public record Placement(int place, UUID uuid, String name, long eliminatedAt) {}
+}
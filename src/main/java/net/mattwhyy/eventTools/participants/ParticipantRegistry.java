@@ -0,0 +1,142 @@
+package net.mattwhyy.eventTools.participants;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+public class ParticipantRegistry {
+    private static final String BYPASS_PERMISSION = "eventtools.bypass";
+
+    private final Set<UUID> eliminated = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> bypass = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Player> alive = new ConcurrentHashMap<>();
+    private final Map<UUID, Player> eliminatedOnline = new ConcurrentHashMap<>();
+    private final Map<String, Player> byName = new ConcurrentHashMap<>();
+    private final Queue<UUID> recheckQueue = new ConcurrentLinkedQueue<>();
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    public synchronized void join(Player player) {
+        if (player.hasPermission(BYPASS_PERMISSION)) {
+            bypass.add(player.getUniqueId());
+        } else {
+            bypass.remove(player.getUniqueId());
+        }
+        byName.put(player.getName().toLowerCase(), player);
+        if (queued.add(player.getUniqueId())) {
+            recheckQueue.add(player.getUniqueId());
+        }
+        place(player);
+    }
+
+    public boolean refreshBypass(Player player) {
+        return setBypass(player, player.hasPermission(BYPASS_PERMISSION));
+    }
+
+    public void recheckBypass(int count, Consumer<Player> onChanged) {
+        for (int i = 0; i < count; i++) {
+            UUID uuid = recheckQueue.poll();
+            if (uuid == null) return;
+
+            Player player = Bukkit.getPlayer(uuid);
+            if (player == null) {
+                queued.remove(uuid);
+                continue;
+            }
+
+            if (refreshBypass(player)) onChanged.accept(player);
+            recheckQueue.add(uuid);
+        }
+    }
+
+    public synchronized void quit(Player player) {
+        byName.remove(player.getName().toLowerCase(), player);
+        alive.remove(player.getUniqueId());
+        eliminatedOnline.remove(player.getUniqueId());
+        bypass.remove(player.getUniqueId());
+    }
+
+    public synchronized boolean setBypass(Player player, boolean bypassed) {
+        boolean changed = bypassed ? bypass.add(player.getUniqueId()) : bypass.remove(player.getUniqueId());
+        if (changed) place(player);
+        return changed;
+    }
+
+    public synchronized boolean eliminate(Player player) {
+        if (!eliminated.add(player.getUniqueId())) return false;
+
+        place(player);
+        return true;
+    }
+
+    public synchronized boolean revive(Player player) {
+        if (!eliminated.remove(player.getUniqueId())) return false;
+
+        place(player);
+        return true;
+    }
+
+    public synchronized void reset() {
+        eliminated.clear();
+        alive.putAll(eliminatedOnline);
+        eliminatedOnline.clear();
+    }
+
+    public synchronized void rebuild() {
+        alive.clear();
+        eliminatedOnline.clear();
+        bypass.clear();
+        byName.clear();
+        recheckQueue.clear();
+        queued.clear();
+        Bukkit.getOnlinePlayers().forEach(this::join);
+    }
+
+    private void place(Player player) {
+        UUID uuid = player.getUniqueId();
+        alive.remove(uuid);
+        eliminatedOnline.remove(uuid);
+        if (!player.isOnline() || bypass.contains(uuid)) return;
+
+        if (eliminated.contains(uuid)) {
+            eliminatedOnline.put(uuid, player);
+        } else {
+            alive.put(uuid, player);
+        }
+    }
+
+    public Player getByName(String name) {
+        return byName.get(name.toLowerCase());
+    }
+
+    public boolean isEliminated(UUID uuid) {
+        return eliminated.contains(uuid);
+    }
+
+    public boolean isBypassed(Player player) {
+        return bypass.contains(player.getUniqueId());
+    }
+
+    public Collection<Player> getAlive() {
+        return Collections.unmodifiableCollection(alive.values());
+    }
+
+    public Collection<Player> getEliminated() {
+        return Collections.unmodifiableCollection(eliminatedOnline.values());
+    }
+
+    public int getAliveCount() {
+        return alive.size();
+    }
+
+    public int getEliminatedCount() {
+        return eliminated.size();
+    }
+
+    public int getParticipantCount() {
+        return alive.size() + eliminatedOnline.size();
+    }
+}
@@ -0,0 +1,81 @@
+package net.mattwhyy.eventTools.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.function.Consumer;
+
+class BukkitTaskScheduler implements TaskScheduler {
+    private final Plugin plugin;
+
+    BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run(Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public EventTask runTimer(Consumer<EventTask> task, long delay, long period) {
+        BukkitRunnable runnable = new BukkitRunnable() {
+            private final EventTask handle = wrap(this);
+
+            @Override
+            public void run() {
+                task.accept(handle);
+            }
+        };
+        runnable.runTaskTimer(plugin, delay, period);
+        return wrap(runnable);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public void runFor(Entity entity, Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            run(task);
+        }
+    }
+
+    @Override
+    public void runLaterFor(Entity entity, Runnable task, long delay) {
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (entity.isValid()) task.run();
+        }, delay);
+    }
+
+    @Override
+    public EventTask runTimerFor(Entity entity, Consumer<EventTask> task, long delay, long period) {
+        return runTimer(handle -> {
+            if (!entity.isValid()) {
+                handle.cancel();
+                return;
+            }
+            task.accept(handle);
+        }, delay, period);
+    }
+
+    private static EventTask wrap(BukkitRunnable runnable) {
+        return new EventTask() {
+            @Override
+            public void cancel() {
+                if (!runnable.isCancelled()) runnable.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return runnable.isCancelled();
+            }
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package net.mattwhyy.eventTools.scheduler;
+
+public interface EventTask {
+    void cancel();
+
+    boolean isCancelled();
+}
@@ -0,0 +1,80 @@
+package net.mattwhyy.eventTools.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+class RegionTaskScheduler implements TaskScheduler {
+    private final Plugin plugin;
+
+    RegionTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run(Runnable task) {
+        Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    @Override
+    public EventTask runTimer(Consumer<EventTask> task, long delay, long period) {
+        TaskHandle handle = new TaskHandle();
+        handle.task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin,
+                scheduled -> handle.tick(scheduled, task), Math.max(1L, delay), period);
+        return handle;
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, scheduled -> task.run());
+    }
+
+    @Override
+    public void runFor(Entity entity, Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            task.run();
+        } else {
+            entity.getScheduler().run(plugin, scheduled -> task.run(), null);
+        }
+    }
+
+    @Override
+    public void runLaterFor(Entity entity, Runnable task, long delay) {
+        entity.getScheduler().runDelayed(plugin, scheduled -> task.run(), null, Math.max(1L, delay));
+    }
+
+    @Override
+    public EventTask runTimerFor(Entity entity, Consumer<EventTask> task, long delay, long period) {
+        TaskHandle handle = new TaskHandle();
+        handle.task = entity.getScheduler().runAtFixedRate(plugin,
+                scheduled -> handle.tick(scheduled, task), null, Math.max(1L, delay), period);
+        return handle;
+    }
+
+    private static class TaskHandle implements EventTask {
+        private volatile ScheduledTask task;
+        private volatile boolean cancelled;
+
+        void tick(ScheduledTask scheduled, Consumer<EventTask> task) {
+            if (cancelled) {
+                scheduled.cancel();
+                return;
+            }
+            task.accept(this);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (task != null) task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
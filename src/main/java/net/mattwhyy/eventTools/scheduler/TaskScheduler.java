@@ -0,0 +1,35 @@
+package net.mattwhyy.eventTools.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+public interface TaskScheduler {
+    void run(Runnable task);
+
+    EventTask runTimer(Consumer<EventTask> task, long delay, long period);
+
+    void runAsync(Runnable task);
+
+    void runFor(Entity entity, Runnable task);
+
+    void runLaterFor(Entity entity, Runnable task, long delay);
+
+    EventTask runTimerFor(Entity entity, Consumer<EventTask> task, long delay, long period);
+
+    static TaskScheduler create(Plugin plugin) {
+        return regionThreadingAvailable()
+                ? new RegionTaskScheduler(plugin)
+                : new BukkitTaskScheduler(plugin);
+    }
+
+    private static boolean regionThreadingAvailable() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package net.mattwhyy.eventTools.teams;
+
+enum MemberStatus {
+    ALIVE,
+    ELIMINATED,
+    OFFLINE
+}
@@ -7,37 +7,78 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Team {
     private final String name;
+    private final org.bukkit.scoreboard.Team scoreboardTeam;
     private ChatColor color;
-    private final Set<UUID> members = new HashSet<>();
+    private String colorCode;
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+    private volatile int alive;
+    private volatile int eliminated;
+    private volatile int offline;
 
     public Team(String name, ChatColor color) {
+        this(name, color, null);
+    }
+
+    Team(String name, ChatColor color, org.bukkit.scoreboard.Team scoreboardTeam) {
+        this(name, color, color.toString(), scoreboardTeam);
+    }
+
+    Team(String name, ChatColor color, String colorCode, org.bukkit.scoreboard.Team scoreboardTeam) {
         this.name = name;
         this.color = color;
+        this.colorCode = colorCode;
+        this.scoreboardTeam = scoreboardTeam;
+        if (scoreboardTeam != null) {
+            scoreboardTeam.setColor(color);
+        }
     }
 
-    public void addMember(Player player) {
+    void addMember(Player player) {
         members.add(player.getUniqueId());
+        if (scoreboardTeam != null) {
+            scoreboardTeam.addEntry(player.getName());
+        }
         updatePlayerDisplay(player);
     }
 
-    public void removeMember(Player player) {
+    void removeMember(Player player) {
         members.remove(player.getUniqueId());
+        if (scoreboardTeam != null) {
+            scoreboardTeam.removeEntry(player.getName());
+        }
         resetPlayerDisplay(player);
     }
 
+    void disband() {
+        if (scoreboardTeam != null) {
+            try {
+                scoreboardTeam.unregister();
+            } catch (IllegalStateException ignored) {
+            }
+        }
+
+        members.stream()
+                .map(Bukkit::getPlayer)
+                .filter(Objects::nonNull)
+                .forEach(this::resetPlayerDisplay);
+    }
+
     private void updatePlayerDisplay(Player player) {
-        String coloredName = color + player.getName();
+        String coloredName = colorCode + player.getName();
         player.setDisplayName(coloredName);
+        if (scoreboardTeam != null) return;
         player.setPlayerListName(coloredName);
         player.setCustomName(coloredName);
         player.setCustomNameVisible(true);
     }
 
-    void resetPlayerDisplay(Player player) {
+    private void resetPlayerDisplay(Player player) {
         player.setDisplayName(null);
+        if (scoreboardTeam != null) return;
         player.setPlayerListName(null);
         player.setCustomName(null);
         player.setCustomNameVisible(false);
@@ -45,11 +86,36 @@ public class Team {
 
     public String getName() { return name; }
     public ChatColor getColor() { return color; }
+    public String getColorCode() { return colorCode; }
+    public String getColoredName() { return colorCode + name; }
     public Set<UUID> getMembers() { return new HashSet<>(members); }
+    public boolean hasMember(UUID uuid) { return members.contains(uuid); }
     public int size() { return members.size(); }
+    public int getAliveCount() { return alive; }
+    public int getEliminatedCount() { return eliminated; }
+    public int getOfflineCount() { return offline; }
+
+    void count(MemberStatus status, int delta) {
+        switch (status) {
+            case ALIVE -> alive += delta;
+            case ELIMINATED -> eliminated += delta;
+            case OFFLINE -> offline += delta;
+        }
+    }
+
+    void resetCounts() {
+        alive = 0;
+        eliminated = 0;
+        offline = 0;
+    }
 
     public void setColor(ChatColor color) {
         this.color = color;
+        this.colorCode = color.toString();
+        if (scoreboardTeam != null) {
+            scoreboardTeam.setColor(color);
+        }
+
         members.stream()
                 .map(uuid -> Bukkit.getPlayer(uuid))
                 .filter(Objects::nonNull)
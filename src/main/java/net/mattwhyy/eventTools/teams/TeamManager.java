@@ -2,43 +2,134 @@ package net.mattwhyy.eventTools.teams;
 
 import net.mattwhyy.eventTools.EventTools;
 import org.bukkit.*;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Firework;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.meta.FireworkMeta;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scoreboard.Scoreboard;
 
+import java.io.File;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 public class TeamManager {
     private final Map<String, Team> teams = new ConcurrentHashMap<>();
+    private final Map<UUID, Team> playerTeams = new ConcurrentHashMap<>();
+    private final Map<UUID, MemberStatus> memberStatus = new ConcurrentHashMap<>();
+    private volatile int teamsWithLiving;
+    private volatile Map<String, Double> ratings = Map.of();
     private final Set<UUID> unassignedPlayers = ConcurrentHashMap.newKeySet();
     private final EventTools plugin;
     private static final int MAX_TEAMS = 16;
+    private static final String SCOREBOARD_PREFIX = "et_";
+    private static final String SQUAD_PREFIX = "Squad";
+    private static final double GOLDEN_RATIO = 0.618033988749895;
 
     public TeamManager(EventTools plugin) {
         this.plugin = plugin;
+        loadRatings();
+    }
+
+    public void loadRatings() {
+        File file = new File(plugin.getDataFolder(), "ratings.yml");
+        if (!file.exists()) {
+            ratings = Map.of();
+            return;
+        }
+
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        Map<String, Double> loaded = new HashMap<>();
+        for (String key : config.getKeys(false)) {
+            if (config.isDouble(key) || config.isInt(key)) {
+                loaded.put(key.toLowerCase(), config.getDouble(key));
+            }
+        }
+        ratings = loaded;
+    }
+
+    private double ratingOf(UUID uuid, String name) {
+        Map<String, Double> ratings = this.ratings;
+        Double rating = ratings.get(uuid.toString());
+        if (rating == null && name != null) rating = ratings.get(name.toLowerCase());
+        return rating != null ? rating : 0;
     }
 
     public boolean createTeam(String name, ChatColor color) {
         if (teams.size() >= MAX_TEAMS) return false;
         if (teams.containsKey(name.toLowerCase())) return false;
 
-        teams.put(name.toLowerCase(), new Team(name, color));
+        teams.put(name.toLowerCase(), new Team(name, color, createScoreboardTeam(name)));
         return true;
     }
 
+    public int createSquads(int squadSize) {
+        shutdown();
+
+        long players = Bukkit.getOnlinePlayers().stream()
+                .filter(p -> !plugin.isBypassed(p))
+                .count();
+        int squads = (int) Math.max(1, (players + squadSize - 1) / squadSize);
+
+        for (int i = 1; i <= squads; i++) {
+            String name = SQUAD_PREFIX + i;
+            java.awt.Color rgb = java.awt.Color.getHSBColor((float) ((i * GOLDEN_RATIO) % 1), 0.65f, 1f);
+            String colorCode = net.md_5.bungee.api.ChatColor.of(rgb).toString();
+            ChatColor nearest = nearestLegacyColor(rgb);
+
+            org.bukkit.scoreboard.Team scoreboardTeam = createScoreboardTeam(name);
+            if (scoreboardTeam != null) {
+                scoreboardTeam.setPrefix(colorCode + "[" + i + "] ");
+            }
+            teams.put(name.toLowerCase(), new Team(name, nearest, colorCode, scoreboardTeam));
+        }
+
+        balanceTeams();
+        return squads;
+    }
+
+    private static ChatColor nearestLegacyColor(java.awt.Color rgb) {
+        ChatColor nearest = ChatColor.WHITE;
+        int best = Integer.MAX_VALUE;
+        for (ChatColor color : ChatColor.values()) {
+            if (!color.isColor()) continue;
+
+            java.awt.Color legacy = color.asBungee().getColor();
+            int dr = legacy.getRed() - rgb.getRed();
+            int dg = legacy.getGreen() - rgb.getGreen();
+            int db = legacy.getBlue() - rgb.getBlue();
+            int distance = dr * dr + dg * dg + db * db;
+            if (distance < best) {
+                best = distance;
+                nearest = color;
+            }
+        }
+        return nearest;
+    }
+
+    private org.bukkit.scoreboard.Team createScoreboardTeam(String name) {
+        try {
+            Scoreboard scoreboard = Bukkit.getScoreboardManager().getMainScoreboard();
+            String id = SCOREBOARD_PREFIX + name.toLowerCase();
+            org.bukkit.scoreboard.Team existing = scoreboard.getTeam(id);
+            if (existing != null) existing.unregister();
+            return scoreboard.registerNewTeam(id);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public boolean deleteTeam(String name) {
-        Team removed = teams.remove(name.toLowerCase());
+        Team removed = removeTeam(name);
         if (removed != null) {
             List<Player> playersToReassign = removed.getMembers().stream()
                     .map(Bukkit::getPlayer)
                     .filter(Objects::nonNull)
                     .toList();
 
-            playersToReassign.forEach(removed::resetPlayerDisplay);
+            removed.disband();
 
             if (teams.size() == 1 && plugin.eventActive) {
                 Team lastTeam = teams.values().iterator().next();
@@ -53,14 +144,28 @@ public class TeamManager {
         return false;
     }
 
+    private synchronized Team removeTeam(String name) {
+        Team removed = teams.remove(name.toLowerCase());
+        if (removed == null) return null;
+
+        for (UUID uuid : removed.getMembers()) {
+            if (playerTeams.remove(uuid, removed)) {
+                memberStatus.remove(uuid);
+            }
+        }
+        if (removed.getAliveCount() > 0) teamsWithLiving--;
+        removed.resetCounts();
+        return removed;
+    }
+
     public boolean hasActiveTeams() {
         return !teams.isEmpty() && teams.values().stream()
-                .anyMatch(team -> !team.getMembers().isEmpty());
+                .anyMatch(team -> team.size() > 0);
     }
 
     public List<Team> getActiveTeams() {
         return teams.values().stream()
-                .filter(team -> !team.getMembers().isEmpty())
+                .filter(team -> team.size() > 0)
                 .collect(Collectors.toList());
     }
 
@@ -75,13 +180,15 @@ public class TeamManager {
     public void autoAssignPlayer(Player player) {
         if (teams.isEmpty() || plugin.isEliminated(player)) return;
 
-        if (getPlayerTeam(player).isPresent()) return;
+        if (playerTeams.containsKey(player.getUniqueId())) return;
 
         if (!plugin.eventActive) return;
 
-        teams.values().stream()
-                .min(Comparator.comparingInt(Team::size))
-                .ifPresent(team -> team.addMember(player));
+        Team smallest = null;
+        for (Team team : teams.values()) {
+            if (smallest == null || team.size() < smallest.size()) smallest = team;
+        }
+        if (smallest != null) assign(player, smallest);
     }
 
     public void handleRevival(Player player) {
@@ -94,42 +201,139 @@ public class TeamManager {
         Team team = teams.get(teamName.toLowerCase());
         if (team == null) return false;
 
-        getPlayerTeam(player).ifPresent(t -> t.removeMember(player));
-
-        team.addMember(player);
+        assign(player, team);
         unassignedPlayers.remove(player.getUniqueId());
         return true;
     }
 
-    public Optional<Team> getPlayerTeam(Player player) {
-        return teams.values().stream()
-                .filter(team -> team.getMembers().contains(player.getUniqueId()))
-                .findFirst();
+    public synchronized boolean removeFromTeam(Player player) {
+        Team team = playerTeams.remove(player.getUniqueId());
+        if (team == null) return false;
+
+        uncount(team, memberStatus.remove(player.getUniqueId()));
+        team.removeMember(player);
+        return true;
+    }
+
+    private synchronized void assign(Player player, Team team) {
+        Team previous = playerTeams.put(player.getUniqueId(), team);
+        if (previous == team) return;
+
+        MemberStatus status = statusOf(player);
+        if (previous != null) {
+            uncount(previous, memberStatus.get(player.getUniqueId()));
+            previous.removeMember(player);
+        }
+        memberStatus.put(player.getUniqueId(), status);
+        count(team, status);
+        team.addMember(player);
+    }
+
+    public void refreshMember(Player player) {
+        setStatus(player.getUniqueId(), statusOf(player));
+    }
+
+    public void markOffline(Player player) {
+        setStatus(player.getUniqueId(), MemberStatus.OFFLINE);
+    }
+
+    public synchronized void recount() {
+        teams.values().forEach(Team::resetCounts);
+        teamsWithLiving = 0;
+        playerTeams.forEach((uuid, team) -> {
+            Player player = Bukkit.getPlayer(uuid);
+            MemberStatus status = player != null ? statusOf(player) : MemberStatus.OFFLINE;
+            memberStatus.put(uuid, status);
+            count(team, status);
+        });
+    }
+
+    private synchronized void setStatus(UUID uuid, MemberStatus status) {
+        Team team = playerTeams.get(uuid);
+        if (team == null) return;
+
+        MemberStatus previous = memberStatus.put(uuid, status);
+        if (previous == status) return;
+
+        uncount(team, previous);
+        count(team, status);
+    }
+
+    private void count(Team team, MemberStatus status) {
+        team.count(status, 1);
+        if (status == MemberStatus.ALIVE && team.getAliveCount() == 1) teamsWithLiving++;
+    }
+
+    private void uncount(Team team, MemberStatus status) {
+        if (status == null) return;
+
+        team.count(status, -1);
+        if (status == MemberStatus.ALIVE && team.getAliveCount() == 0) teamsWithLiving--;
+    }
+
+    private MemberStatus statusOf(Player player) {
+        if (!player.isOnline()) return MemberStatus.OFFLINE;
+        return plugin.isEliminated(player) ? MemberStatus.ELIMINATED : MemberStatus.ALIVE;
+    }
+
+    public Team getTeamOf(Player player) {
+        return playerTeams.get(player.getUniqueId());
     }
 
     public void balanceTeams() {
         List<Player> unassignedPlayers = Bukkit.getOnlinePlayers().stream()
-                .filter(p -> !p.hasPermission("eventtools.bypass"))
-                .filter(p -> getPlayerTeam(p).isEmpty())
+                .filter(p -> !plugin.isBypassed(p))
+                .filter(p -> !playerTeams.containsKey(p.getUniqueId()))
                 .collect(Collectors.toList());
 
-        List<Team> activeTeams = new ArrayList<>(teams.values());
-
-        if (activeTeams.isEmpty() || unassignedPlayers.isEmpty()) {
+        if (teams.isEmpty() || unassignedPlayers.isEmpty()) {
             return;
         }
 
+        boolean rated = !ratings.isEmpty();
         Collections.shuffle(unassignedPlayers);
-        Collections.shuffle(activeTeams);
+        if (rated) {
+            Map<UUID, Double> playerRatings = new HashMap<>();
+            unassignedPlayers.forEach(p -> playerRatings.put(p.getUniqueId(), ratingOf(p.getUniqueId(), p.getName())));
+            unassignedPlayers.sort(Comparator.comparingDouble((Player p) -> playerRatings.get(p.getUniqueId())).reversed());
+        }
+
+        PriorityQueue<Slot> heap = new PriorityQueue<>(teams.size());
+        for (Team team : teams.values()) {
+            double rating = 0;
+            if (rated) {
+                for (UUID member : team.getMembers()) {
+                    rating += ratingOf(member, Bukkit.getOfflinePlayer(member).getName());
+                }
+            }
+            heap.add(new Slot(team, team.size(), rating, ThreadLocalRandom.current().nextInt()));
+        }
 
-        int teamIndex = 0;
         for (Player player : unassignedPlayers) {
-            Team team = activeTeams.get(teamIndex % activeTeams.size());
-            team.addMember(player);
-            teamIndex++;
+            Slot slot = heap.poll();
+            assign(player, slot.team());
+            double rating = rated ? slot.rating() + ratingOf(player.getUniqueId(), player.getName()) : 0;
+            heap.add(new Slot(slot.team(), slot.size() + 1, rating, slot.order()));
         }
     }
 
+    private record Slot(Team team, int size, double rating, int order) implements Comparable<Slot> {
+        @Override
+        public int compareTo(Slot other) {
+            if (size != other.size) return Integer.compare(size, other.size);
+            if (rating != other.rating) return Double.compare(rating, other.rating);
+            return Integer.compare(order, other.order);
+        }
+    }
+
+    public synchronized void shutdown() {
+        teams.values().forEach(Team::disband);
+        teams.clear();
+        playerTeams.clear();
+        memberStatus.clear();
+        teamsWithLiving = 0;
+    }
+
     public List<String> getTeamNames() {
         return new ArrayList<>(teams.keySet());
     }
@@ -137,37 +341,33 @@ public class TeamManager {
     public void checkForTeamVictory() {
         if (!plugin.eventActive || teams.isEmpty()) return;
 
-        List<Team> activeTeams = teams.values().stream()
-                .filter(this::hasActiveMembers)
-                .toList();
+        if (teamsWithLiving <= 1) {
+            plugin.getTaskScheduler().run(() -> {
+                if (!plugin.eventActive || teamsWithLiving > 1) return;
 
-        if (activeTeams.size() <= 1) {
-            Team winningTeam = activeTeams.isEmpty() ? null : activeTeams.get(0);
+                Team winningTeam = teams.values().stream()
+                        .filter(team -> team.getAliveCount() > 0)
+                        .findFirst()
+                        .orElse(null);
 
-            if (winningTeam != null) {
-                announceTeamVictory(winningTeam);
-                celebrateVictory(winningTeam);
-            } else {
-                plugin.broadcastMessage("&cAll teams were eliminated!");
-            }
+                if (winningTeam != null) {
+                    announceTeamVictory(winningTeam);
+                    celebrateVictory(winningTeam);
+                } else {
+                    plugin.broadcastMessage("&cAll teams were eliminated!");
+                }
 
-            plugin.resetEvent();
+                plugin.resetEvent();
+            });
         }
     }
 
-    private boolean hasActiveMembers(Team team) {
-        return team.getMembers().stream()
-                .map(Bukkit::getPlayer)
-                .filter(Objects::nonNull)
-                .anyMatch(p -> !plugin.isEliminated(p));
-    }
-
     private void announceTeamVictory(Team team) {
         plugin.broadcastTitle(
                 "&6&lTEAM VICTORY",
-                team.getColor() + team.getName() + " &awins!"
+                team.getColoredName() + " &awins!"
         );
-        plugin.broadcastMessage(team.getColor() + team.getName() + " &ahas won the event!");
+        plugin.broadcastMessage(team.getColoredName() + " &ahas won the event!");
     }
 
     private void celebrateVictory(Team team) {
@@ -186,45 +386,41 @@ public class TeamManager {
                 p.playSound(p.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 0.5f)
         );
 
-        new BukkitRunnable() {
-            int fireworksLeft = 15;
-            Random random = new Random();
-
-            @Override
-            public void run() {
-                if (fireworksLeft <= 0) {
-                    cancel();
-                    return;
-                }
+        Random random = new Random();
+        int[] fireworksLeft = {15};
+        plugin.getTaskScheduler().runTimerFor(celebrationWinner, task -> {
+            if (fireworksLeft[0] <= 0) {
+                task.cancel();
+                return;
+            }
 
-                Location fireworkLoc = center.clone().add(
-                        random.nextDouble() * 10 - 5,
-                        0,
-                        random.nextDouble() * 10 - 5
-                );
+            Location fireworkLoc = center.clone().add(
+                    random.nextDouble() * 10 - 5,
+                    0,
+                    random.nextDouble() * 10 - 5
+            );
 
-                Firework fw = celebrationWinner.getWorld().spawn(celebrationWinner.getLocation(), Firework.class);
-                FireworkMeta meta = fw.getFireworkMeta();
+            Firework fw = celebrationWinner.getWorld().spawn(celebrationWinner.getLocation(), Firework.class);
+            FireworkMeta meta = fw.getFireworkMeta();
 
-                FireworkEffect.Type type = FireworkEffect.Type.values()[random.nextInt(FireworkEffect.Type.values().length)];
-                Color color = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
-                Color fade = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            FireworkEffect.Type type = FireworkEffect.Type.values()[random.nextInt(FireworkEffect.Type.values().length)];
+            Color color = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            Color fade = Color.fromRGB(random.nextInt(256), random.nextInt(256), random.nextInt(256));
 
-                meta.addEffect(FireworkEffect.builder()
-                        .with(type)
-                        .withColor(color)
-                        .withFade(fade)
-                        .trail(random.nextBoolean())
-                        .flicker(random.nextBoolean())
-                        .build());
+            meta.addEffect(FireworkEffect.builder()
+                    .with(type)
+                    .withColor(color)
+                    .withFade(fade)
+                    .trail(random.nextBoolean())
+                    .flicker(random.nextBoolean())
+                    .build());
 
-                meta.setPower(1 + random.nextInt(2));
-                fw.setFireworkMeta(meta);
+            meta.setPower(1 + random.nextInt(2));
+            fw.setFireworkMeta(meta);
 
-                fireworkLoc.getWorld().playSound(fireworkLoc, Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 1.0f, 1.0f);
+            fireworkLoc.getWorld().playSound(fireworkLoc, Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 1.0f, 1.0f);
 
-                fireworksLeft--;
-            }
-        }.runTaskTimer(plugin, 0L, 10L);
+            fireworksLeft[0]--;
+        }, 0L, 10L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package net.mattwhyy.eventTools.teleport;
+
+import net.mattwhyy.eventTools.scheduler.EventTask;
+import net.mattwhyy.eventTools.scheduler.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class TeleportPipeline {
+    private static final int TELEPORTS_PER_TICK = 10;
+    private static final boolean ASYNC_TELEPORT = asyncTeleportAvailable();
+
+    private final Plugin plugin;
+    private final TaskScheduler scheduler;
+    private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+    private final EventTask task;
+
+    public TeleportPipeline(Plugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.task = scheduler.runTimer(task -> drain(), 1L, 1L);
+    }
+
+    public void teleport(Player player, Location destination) {
+        teleport(List.of(player), destination, null, null);
+    }
+
+    public void teleport(Collection<Player> players, Location destination,
+                         Consumer<Player> onTeleported, Consumer<TeleportResult> onComplete) {
+        if (players.isEmpty()) {
+            if (onComplete != null) onComplete.accept(new TeleportResult(0, 0));
+            return;
+        }
+
+        Batch batch = new Batch(destination.clone(), players.size(), onTeleported, onComplete);
+        for (Player player : players) {
+            queue.add(new Request(player, batch));
+        }
+    }
+
+    public void shutdown() {
+        task.cancel();
+        queue.clear();
+    }
+
+    private void drain() {
+        for (int i = 0; i < TELEPORTS_PER_TICK; i++) {
+            Request request = queue.poll();
+            if (request == null) return;
+
+            Player player = request.player();
+            if (!player.isOnline()) {
+                request.batch().complete(player, false);
+                continue;
+            }
+
+            scheduler.runFor(player, () -> teleport(player, request.batch()));
+        }
+    }
+
+    private void teleport(Player player, Batch batch) {
+        if (!ASYNC_TELEPORT) {
+            batch.complete(player, player.teleport(batch.destination));
+            return;
+        }
+
+        try {
+            player.teleportAsync(batch.destination).whenComplete((success, error) -> {
+                if (error != null) {
+                    plugin.getLogger().warning("Failed to teleport player " + player.getName() + ": " + error.getMessage());
+                }
+                batch.complete(player, error == null && Boolean.TRUE.equals(success));
+            });
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to teleport player " + player.getName() + ": " + e.getMessage());
+            batch.complete(player, false);
+        }
+    }
+
+    private static boolean asyncTeleportAvailable() {
+        try {
+            Entity.class.getMethod("teleportAsync", Location.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private record Request(Player player, Batch batch) {}
+
+    public record TeleportResult(int teleported, int failed) {}
+
+    private class Batch {
+        private final Location destination;
+        private final Consumer<Player> onTeleported;
+        private final Consumer<TeleportResult> onComplete;
+        private final AtomicInteger remaining;
+        private final AtomicInteger teleported = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        Batch(Location destination, int size, Consumer<Player> onTeleported, Consumer<TeleportResult> onComplete) {
+            this.destination = destination;
+            this.remaining = new AtomicInteger(size);
+            this.onTeleported = onTeleported;
+            this.onComplete = onComplete;
+        }
+
+        void complete(Player player, boolean success) {
+            if (success) {
+                teleported.incrementAndGet();
+                if (onTeleported != null) scheduler.runFor(player, () -> onTeleported.accept(player));
+            } else {
+                failed.incrementAndGet();
+            }
+
+            if (remaining.decrementAndGet() == 0 && onComplete != null && plugin.isEnabled()) {
+                TeleportResult result = new TeleportResult(teleported.get(), failed.get());
+                scheduler.run(() -> onComplete.accept(result));
+            }
+        }
+    }
+}
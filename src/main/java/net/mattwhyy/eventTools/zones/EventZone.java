@@ -4,118 +4,234 @@ import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.util.Vector;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 public class EventZone {
+    public static final int MAX_RADIUS = 50;
+    public static final int MAX_SHRINKING_RADIUS = 5000;
+    private static final double VIEW_DISTANCE = 24;
+    private static final double MIN_SPACING = 0.75;
+    private static final double MAX_SPACING = 4;
+    private static final double SPACING_PER_BLOCK = 0.15;
+    private static final int MIN_CIRCLE_POINTS = 16;
+
     private final String name;
     private final Location center;
     private final ZoneType type;
     private final Shape shape;
-    private final int radius;
+    private final World world;
     private final PotionEffect effect;
-    private boolean active;
-    private final Set<Player> playersInside = new HashSet<>();
+    private final double borderY;
+    private final Particle.DustOptions dustOptions;
+    private volatile ZoneGeometry geometry;
+    private volatile List<ZoneKeyframe> keyframes = List.of();
+    private volatile boolean active;
+    private volatile boolean virtualBorder;
 
     public EventZone(String name, Location center, Shape shape, int radius, ZoneType type, PotionEffect effect) {
         this.name = name;
         this.center = center;
         this.shape = shape;
-        this.radius = Math.min(radius, 50);
+        this.world = center.getWorld();
         this.type = type;
         this.effect = effect;
         this.active = true;
+        this.borderY = center.getY() + 0.1;
+        this.dustOptions = switch (type) {
+            case SAFE -> new Particle.DustOptions(Color.fromRGB(0, 255, 0), 1.5f);
+            case MUST_STAY -> new Particle.DustOptions(Color.fromRGB(255, 0, 0), 1.5f);
+            case EFFECT -> new Particle.DustOptions(Color.fromRGB(0, 0, 255), 1.5f);
+        };
+        this.geometry = new ZoneGeometry(center.getX(), center.getZ(), Math.min(radius, maxRadius(type)), 0);
+    }
+
+    public static int maxRadius(ZoneType type) {
+        return type == ZoneType.MUST_STAY ? MAX_SHRINKING_RADIUS : MAX_RADIUS;
     }
 
     public boolean contains(Location location) {
-        if (!location.getWorld().equals(center.getWorld())) return false;
+        return contains(location.getWorld(), location.getX(), location.getZ());
+    }
 
+    public boolean contains(World world, double x, double z) {
+        if (world != this.world) return false;
+
+        ZoneGeometry geometry = this.geometry;
+        double dx = x - geometry.x;
+        double dz = z - geometry.z;
         return shape == Shape.CIRCLE
-                ? location.distance(center) <= radius
-                : Math.max(Math.abs(location.getX() - center.getX()),
-                Math.abs(location.getZ() - center.getZ())) <= radius;
+                ? dx * dx + dz * dz <= geometry.radiusSquared
+                : Math.max(Math.abs(dx), Math.abs(dz)) <= geometry.radius;
     }
 
-    public void applyEffects(Player player) {
-        if (!active) return;
+    public double distanceToBorder(World world, double x, double z) {
+        if (world != this.world) return Double.POSITIVE_INFINITY;
 
-        if (type == ZoneType.EFFECT && effect != null) {
-            player.addPotionEffect(effect);
-        } else if (type == ZoneType.SAFE) {
-            player.setInvulnerable(true);
+        ZoneGeometry geometry = this.geometry;
+        double dx = x - geometry.x;
+        double dz = z - geometry.z;
+        double distance = shape == Shape.CIRCLE
+                ? Math.sqrt(dx * dx + dz * dz)
+                : Math.max(Math.abs(dx), Math.abs(dz));
+        return Math.abs(distance - geometry.radius);
+    }
+
+    public synchronized void addKeyframe(double radius, double x, double z, long durationMillis) {
+        long now = System.currentTimeMillis();
+        List<ZoneKeyframe> updated = new ArrayList<>(keyframes);
+        if (updated.isEmpty() || updated.get(updated.size() - 1).time() < now) {
+            ZoneGeometry current = geometry;
+            updated.add(new ZoneKeyframe(now, current.x, current.z, current.radius));
         }
-        playersInside.add(player);
+
+        long start = updated.get(updated.size() - 1).time();
+        updated.add(new ZoneKeyframe(start + Math.max(0, durationMillis), x, z,
+                Math.max(1, Math.min(radius, MAX_SHRINKING_RADIUS))));
+        keyframes = List.copyOf(updated);
     }
 
-    public void removeEffects(Player player) {
-        if (type == ZoneType.EFFECT && effect != null) {
-            player.removePotionEffect(effect.getType());
-        } else if (type == ZoneType.SAFE) {
-            player.setInvulnerable(false);
+    synchronized boolean updateGeometry(long now) {
+        List<ZoneKeyframe> keyframes = this.keyframes;
+        if (keyframes.isEmpty()) return false;
+
+        ZoneKeyframe last = keyframes.get(keyframes.size() - 1);
+        double x = last.x(), z = last.z(), radius = last.radius(), speed = 0;
+        if (now >= last.time()) {
+            this.keyframes = List.of();
         }
-        playersInside.remove(player);
+
+        for (int i = 1; i < keyframes.size(); i++) {
+            ZoneKeyframe to = keyframes.get(i);
+            if (now >= to.time()) continue;
+
+            ZoneKeyframe from = keyframes.get(i - 1);
+            long duration = to.time() - from.time();
+            double progress = duration <= 0 ? 1 : Math.max(0, (double) (now - from.time()) / duration);
+            x = from.x() + (to.x() - from.x()) * progress;
+            z = from.z() + (to.z() - from.z()) * progress;
+            radius = from.radius() + (to.radius() - from.radius()) * progress;
+
+            double ticks = Math.max(1, duration / 50.0);
+            speed = (Math.abs(to.radius() - from.radius()) + Math.hypot(to.x() - from.x(), to.z() - from.z())) / ticks;
+            break;
+        }
+
+        if (geometry.sameAs(x, z, radius) && geometry.speed == speed) return false;
+        geometry = new ZoneGeometry(x, z, radius, speed);
+        return true;
     }
 
-    public void displayBorder(Player viewer) {
-        if (!active || !viewer.getWorld().equals(center.getWorld())) return;
+    public int displayBorder(Player viewer, double viewerX, double viewerZ, int budget) {
+        if (!active || budget <= 0) return 0;
 
-        Particle.DustOptions dustOptions = switch (type) {
-            case SAFE -> new Particle.DustOptions(Color.fromRGB(0, 255, 0), 1.5f);
-            case MUST_STAY -> new Particle.DustOptions(Color.fromRGB(255, 0, 0), 1.5f);
-            case EFFECT -> new Particle.DustOptions(Color.fromRGB(0, 0, 255), 1.5f);
-        };
+        ZoneGeometry geometry = this.geometry;
+        double dx = viewerX - geometry.x;
+        double dz = viewerZ - geometry.z;
+        double distance = shape == Shape.CIRCLE
+                ? Math.sqrt(dx * dx + dz * dz)
+                : Math.max(Math.abs(dx), Math.abs(dz));
+        double borderDistance = Math.abs(distance - geometry.radius);
+        if (borderDistance > VIEW_DISTANCE) return 0;
 
-        int points = 30;
-        double y = center.getY() + 0.1;
+        double spacing = Math.min(MAX_SPACING, MIN_SPACING + borderDistance * SPACING_PER_BLOCK);
+        return shape == Shape.CIRCLE
+                ? displayArc(viewer, geometry, dx, dz, distance, spacing, budget)
+                : displayEdges(viewer, geometry, viewerX, viewerZ, spacing, budget);
+    }
 
-        for (int i = 0; i < points; i++) {
-            double progress = (double) i / points;
-            double x, z;
-
-            if (shape == Shape.CIRCLE) {
-                double angle = progress * 2 * Math.PI;
-                x = center.getX() + radius * Math.cos(angle);
-                z = center.getZ() + radius * Math.sin(angle);
-            } else {
-                double sideLength = radius * 2;
-                double perimeterPos = progress * (sideLength * 4);
-
-                if (perimeterPos < sideLength) {
-                    x = center.getX() - radius + perimeterPos;
-                    z = center.getZ() - radius;
-                } else if (perimeterPos < sideLength * 2) {
-                    x = center.getX() + radius;
-                    z = center.getZ() - radius + (perimeterPos - sideLength);
-                } else if (perimeterPos < sideLength * 3) {
-                    x = center.getX() + radius - (perimeterPos - sideLength * 2);
-                    z = center.getZ() + radius;
-                } else {
-                    x = center.getX() - radius;
-                    z = center.getZ() + radius - (perimeterPos - sideLength * 3);
-                }
-            }
+    private int displayArc(Player viewer, ZoneGeometry geometry, double dx, double dz,
+                           double distance, double spacing, int budget) {
+        double radius = geometry.radius;
+        double halfArc = Math.PI;
+        if (distance > 0) {
+            double cos = (radius * radius + distance * distance - VIEW_DISTANCE * VIEW_DISTANCE) / (2 * radius * distance);
+            if (cos >= 1) return 0;
+            if (cos > -1) halfArc = Math.acos(cos);
+        }
 
+        spacing = Math.min(spacing, 2 * Math.PI * radius / MIN_CIRCLE_POINTS);
+        int points = Math.min(budget, Math.max(1, (int) Math.ceil(2 * halfArc * radius / spacing)));
+        double start = Math.atan2(dz, dx) - halfArc;
+        double step = 2 * halfArc / points;
+        for (int i = 0; i < points; i++) {
+            double angle = start + (i + 0.5) * step;
             viewer.spawnParticle(Particle.REDSTONE,
-                    new Location(center.getWorld(), x, y, z),
+                    geometry.x + radius * Math.cos(angle), borderY, geometry.z + radius * Math.sin(angle),
                     1, dustOptions);
         }
+        return points;
+    }
+
+    private int displayEdges(Player viewer, ZoneGeometry geometry, double viewerX, double viewerZ,
+                             double spacing, int budget) {
+        double radius = geometry.radius;
+        double[] from = new double[4];
+        double[] to = new double[4];
+        double total = 0;
+
+        for (int edge = 0; edge < 4; edge++) {
+            boolean horizontal = edge < 2;
+            double fixed = (horizontal ? geometry.z : geometry.x) + (edge % 2 == 0 ? -radius : radius);
+            double middle = horizontal ? geometry.x : geometry.z;
+            double along = horizontal ? viewerX : viewerZ;
+            double across = Math.abs((horizontal ? viewerZ : viewerX) - fixed);
+            if (across > VIEW_DISTANCE) continue;
+
+            double half = Math.sqrt(VIEW_DISTANCE * VIEW_DISTANCE - across * across);
+            from[edge] = Math.max(middle - radius, along - half);
+            to[edge] = Math.min(middle + radius, along + half);
+            total += Math.max(0, to[edge] - from[edge]);
+        }
+
+        if (total <= 0) return 0;
+        spacing = Math.max(spacing, total / budget);
+
+        int spent = 0;
+        for (int edge = 0; edge < 4 && spent < budget; edge++) {
+            double length = to[edge] - from[edge];
+            if (length <= 0) continue;
+
+            boolean horizontal = edge < 2;
+            double fixed = (horizontal ? geometry.z : geometry.x) + (edge % 2 == 0 ? -radius : radius);
+            int points = Math.min(budget - spent, Math.max(1, (int) (length / spacing)));
+            double step = length / points;
+            for (int i = 0; i < points; i++) {
+                double position = from[edge] + (i + 0.5) * step;
+                viewer.spawnParticle(Particle.REDSTONE,
+                        horizontal ? position : fixed, borderY, horizontal ? fixed : position,
+                        1, dustOptions);
+            }
+            spent += points;
+        }
+        return spent;
     }
 
     public String getName() { return name; }
     public ZoneType getType() { return type; }
     public boolean isActive() { return active; }
-    public Set<Player> getPlayersInside() { return new HashSet<>(playersInside); }
+    public PotionEffect getEffect() { return effect; }
+    public boolean isShrinking() { return !keyframes.isEmpty(); }
+    public Shape getShape() { return shape; }
+    public boolean usesVirtualBorder() { return virtualBorder && shape == Shape.SQUARE && type == ZoneType.MUST_STAY; }
     public int getRadius() {
-        return radius;
+        return (int) Math.round(geometry.radius);
     }
     public Location getCenter() {
-        return center.clone();
+        ZoneGeometry geometry = this.geometry;
+        return new Location(world, geometry.x, center.getY(), geometry.z);
     }
+    public World getWorld() { return world; }
+    public double getCenterX() { return geometry.x; }
+    public double getCenterZ() { return geometry.z; }
+    public double getBorderSpeed() { return geometry.speed; }
+    ZoneGeometry getGeometry() { return geometry; }
 
     public void setActive(boolean active) {
         this.active = active;
-        if (!active) {
-            new HashSet<>(playersInside).forEach(this::removeEffects);
-        }
     }
-}
\ No newline at end of file
+
+    public void setVirtualBorder(boolean virtualBorder) {
+        this.virtualBorder = virtualBorder;
+    }
+}
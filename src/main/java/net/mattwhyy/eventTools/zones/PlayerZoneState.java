@@ -0,0 +1,30 @@
+package net.mattwhyy.eventTools.zones;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Set;
+import java.util.UUID;
+
+class PlayerZoneState {
+    final UUID playerId;
+    final Set<EventZone> inside;
+    final Location sampleBuffer = new Location(null, 0, 0, 0);
+    long nextCheckTick;
+    long lastCheckTick = -1;
+    World lastWorld;
+    double lastX;
+    double lastZ;
+    volatile boolean sampling;
+    volatile int sampleGeneration;
+    volatile World sampleWorld;
+    volatile double sampleX;
+    volatile double sampleZ;
+    volatile boolean fastTravel;
+    volatile int generation;
+
+    PlayerZoneState(UUID playerId, Set<EventZone> inside) {
+        this.playerId = playerId;
+        this.inside = inside;
+    }
+}
@@ -0,0 +1,82 @@
+package net.mattwhyy.eventTools.zones;
+
+import org.bukkit.Bukkit;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ZoneBorders {
+    private static final double REFRESH_THRESHOLD = 0.25;
+
+    private final Map<UUID, View> views = new ConcurrentHashMap<>();
+
+    boolean isStale(UUID playerId, Set<EventZone> inside) {
+        EventZone target = target(inside);
+        View view = views.get(playerId);
+        if (view == null || target == null) return view != target;
+        return view.zone != target || !view.matches(target.getGeometry());
+    }
+
+    boolean shows(Player player, EventZone zone) {
+        View view = views.get(player.getUniqueId());
+        return view != null && view.zone == zone;
+    }
+
+    void update(Player player, Set<EventZone> inside) {
+        EventZone target = target(inside);
+        View view = views.get(player.getUniqueId());
+        if (target == null) {
+            release(player);
+            return;
+        }
+
+        ZoneGeometry geometry = target.getGeometry();
+        if (view != null && view.zone == target && view.matches(geometry)) return;
+
+        WorldBorder border = view != null ? view.border : Bukkit.createWorldBorder();
+        border.setCenter(geometry.x, geometry.z);
+        border.setSize(geometry.radius * 2);
+        border.setWarningDistance(0);
+        border.setWarningTime(0);
+        if (view == null) {
+            player.setWorldBorder(border);
+        }
+        views.put(player.getUniqueId(), new View(target, geometry, border));
+    }
+
+    void release(Player player) {
+        if (views.remove(player.getUniqueId()) != null) {
+            player.setWorldBorder(null);
+        }
+    }
+
+    void forget(Player player) {
+        views.remove(player.getUniqueId());
+    }
+
+    Set<UUID> trackedPlayers() {
+        return views.keySet();
+    }
+
+    private static EventZone target(Set<EventZone> inside) {
+        if (inside.size() != 1) return null;
+
+        for (EventZone zone : inside) {
+            if (zone.isActive() && zone.usesVirtualBorder()) return zone;
+        }
+        return null;
+    }
+
+    private record View(EventZone zone, ZoneGeometry geometry, WorldBorder border) {
+        boolean matches(ZoneGeometry current) {
+            return current == geometry
+                    || (Math.abs(current.x - geometry.x) < REFRESH_THRESHOLD
+                    && Math.abs(current.z - geometry.z) < REFRESH_THRESHOLD
+                    && Math.abs(current.radius - geometry.radius) < REFRESH_THRESHOLD);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package net.mattwhyy.eventTools.zones;
+
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ZoneEffects {
+    private final Map<UUID, Contributions> players = new ConcurrentHashMap<>();
+
+    void add(Player player, EventZone zone) {
+        contributions(player).add(zone);
+    }
+
+    void remove(Player player, EventZone zone) {
+        Contributions contributions = players.get(player.getUniqueId());
+        if (contributions != null) {
+            contributions.remove(zone);
+        }
+    }
+
+    void flush(Player player) {
+        Contributions contributions = players.get(player.getUniqueId());
+        if (contributions == null) return;
+
+        contributions.apply(player);
+        if (contributions.isEmpty()) {
+            players.remove(player.getUniqueId());
+        }
+    }
+
+    void resync(Player player) {
+        Contributions contributions = players.get(player.getUniqueId());
+        if (contributions != null) {
+            contributions.resync(player);
+        }
+    }
+
+    void release(Player player) {
+        Contributions contributions = players.remove(player.getUniqueId());
+        if (contributions != null) {
+            contributions.clear();
+            contributions.apply(player);
+        }
+    }
+
+    Set<UUID> trackedPlayers() {
+        return players.keySet();
+    }
+
+    private Contributions contributions(Player player) {
+        return players.computeIfAbsent(player.getUniqueId(), k -> new Contributions());
+    }
+
+    private static class Contributions {
+        private final Map<PotionEffectType, TreeMap<Integer, Integer>> effects = new HashMap<>();
+        private final Map<PotionEffectType, Integer> applied = new HashMap<>();
+        private int safeZones;
+        private boolean invulnerable;
+
+        synchronized void add(EventZone zone) {
+            if (zone.getType() == ZoneType.SAFE) {
+                safeZones++;
+            } else if (zone.getType() == ZoneType.EFFECT && zone.getEffect() != null) {
+                PotionEffect effect = zone.getEffect();
+                effects.computeIfAbsent(effect.getType(), k -> new TreeMap<>())
+                        .merge(effect.getAmplifier(), 1, Integer::sum);
+            }
+        }
+
+        synchronized void remove(EventZone zone) {
+            if (zone.getType() == ZoneType.SAFE) {
+                safeZones = Math.max(0, safeZones - 1);
+            } else if (zone.getType() == ZoneType.EFFECT && zone.getEffect() != null) {
+                PotionEffect effect = zone.getEffect();
+                TreeMap<Integer, Integer> amplifiers = effects.get(effect.getType());
+                if (amplifiers == null) return;
+
+                amplifiers.computeIfPresent(effect.getAmplifier(), (amplifier, count) -> count > 1 ? count - 1 : null);
+                if (amplifiers.isEmpty()) {
+                    effects.remove(effect.getType());
+                }
+            }
+        }
+
+        synchronized void clear() {
+            effects.clear();
+            safeZones = 0;
+        }
+
+        synchronized void resync(Player player) {
+            applied.clear();
+            invulnerable = false;
+            apply(player);
+        }
+
+        synchronized boolean isEmpty() {
+            return effects.isEmpty() && applied.isEmpty() && safeZones == 0 && !invulnerable;
+        }
+
+        synchronized void apply(Player player) {
+            Iterator<Map.Entry<PotionEffectType, Integer>> iterator = applied.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<PotionEffectType, Integer> entry = iterator.next();
+                TreeMap<Integer, Integer> amplifiers = effects.get(entry.getKey());
+                if (amplifiers == null || amplifiers.lastKey().intValue() != entry.getValue()) {
+                    player.removePotionEffect(entry.getKey());
+                    iterator.remove();
+                }
+            }
+
+            effects.forEach((type, amplifiers) -> {
+                if (applied.containsKey(type)) return;
+
+                int amplifier = amplifiers.lastKey();
+                player.addPotionEffect(new PotionEffect(type, Integer.MAX_VALUE, amplifier));
+                applied.put(type, amplifier);
+            });
+
+            boolean shouldBeInvulnerable = safeZones > 0;
+            if (shouldBeInvulnerable != invulnerable) {
+                player.setInvulnerable(shouldBeInvulnerable);
+                invulnerable = shouldBeInvulnerable;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.mattwhyy.eventTools.zones;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+public class ZoneEnterEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final EventZone zone;
+
+    public ZoneEnterEvent(@NotNull Player player, @NotNull EventZone zone) {
+        super(player);
+        this.zone = zone;
+    }
+
+    public @NotNull EventZone getZone() {
+        return zone;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
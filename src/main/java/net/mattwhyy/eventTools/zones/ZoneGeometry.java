@@ -0,0 +1,21 @@
+package net.mattwhyy.eventTools.zones;
+
+final class ZoneGeometry {
+    final double x;
+    final double z;
+    final double radius;
+    final double radiusSquared;
+    final double speed;
+
+    ZoneGeometry(double x, double z, double radius, double speed) {
+        this.x = x;
+        this.z = z;
+        this.radius = radius;
+        this.radiusSquared = radius * radius;
+        this.speed = speed;
+    }
+
+    boolean sameAs(double x, double z, double radius) {
+        return this.x == x && this.z == z && this.radius == radius;
+    }
+}
@@ -0,0 +1,188 @@
+package net.mattwhyy.eventTools.zones;
+
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ZoneIndex {
+    private static final EventZone[] EMPTY = new EventZone[0];
+    private static final long MAX_INDEXED_CELLS = 1024;
+    private static final double CELL_SIZE = 16;
+
+    private final Map<UUID, Map<Long, EventZone[]>> cells = new ConcurrentHashMap<>();
+    private final Map<UUID, EventZone[]> worlds = new ConcurrentHashMap<>();
+    private final Map<UUID, EventZone[]> largeZones = new ConcurrentHashMap<>();
+    private final Map<EventZone, CellRange> ranges = new HashMap<>();
+
+    synchronized void add(EventZone zone) {
+        UUID worldId = zone.getWorld().getUID();
+        worlds.put(worldId, with(worlds.getOrDefault(worldId, EMPTY), zone));
+
+        CellRange range = CellRange.of(zone);
+        ranges.put(zone, range);
+        if (range.isLarge()) {
+            largeZones.put(worldId, with(largeZones.getOrDefault(worldId, EMPTY), zone));
+        } else {
+            addCells(worldId, zone, range, null);
+        }
+    }
+
+    synchronized void remove(EventZone zone) {
+        CellRange range = ranges.remove(zone);
+        if (range == null) return;
+
+        UUID worldId = zone.getWorld().getUID();
+        removeFrom(worlds, worldId, zone);
+        if (range.isLarge()) {
+            removeFrom(largeZones, worldId, zone);
+        } else {
+            removeCells(worldId, zone, range, null);
+        }
+    }
+
+    synchronized void update(EventZone zone) {
+        CellRange previous = ranges.get(zone);
+        if (previous == null) return;
+
+        CellRange current = CellRange.of(zone);
+        if (current.equals(previous)) return;
+
+        UUID worldId = zone.getWorld().getUID();
+        ranges.put(zone, current);
+
+        if (previous.isLarge() && current.isLarge()) return;
+        if (previous.isLarge()) {
+            removeFrom(largeZones, worldId, zone);
+            addCells(worldId, zone, current, null);
+        } else if (current.isLarge()) {
+            removeCells(worldId, zone, previous, null);
+            largeZones.put(worldId, with(largeZones.getOrDefault(worldId, EMPTY), zone));
+        } else {
+            removeCells(worldId, zone, previous, current);
+            addCells(worldId, zone, current, previous);
+        }
+    }
+
+    EventZone[] candidates(World world, double x, double z) {
+        Map<Long, EventZone[]> worldCells = cells.get(world.getUID());
+        if (worldCells == null) return EMPTY;
+
+        return worldCells.getOrDefault(key(floorToChunk(x), floorToChunk(z)), EMPTY);
+    }
+
+    double margin(World world, double x, double z) {
+        int chunkX = floorToChunk(x);
+        int chunkZ = floorToChunk(z);
+        double localX = x - ((long) chunkX << 4);
+        double localZ = z - ((long) chunkZ << 4);
+        double margin = CELL_SIZE + Math.min(Math.min(localX, CELL_SIZE - localX), Math.min(localZ, CELL_SIZE - localZ));
+
+        Map<Long, EventZone[]> worldCells = cells.get(world.getUID());
+        if (worldCells != null) {
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    for (EventZone zone : worldCells.getOrDefault(key(chunkX + dx, chunkZ + dz), EMPTY)) {
+                        margin = Math.min(margin, zone.distanceToBorder(world, x, z));
+                    }
+                }
+            }
+        }
+        for (EventZone zone : largeZonesIn(world)) {
+            margin = Math.min(margin, zone.distanceToBorder(world, x, z));
+        }
+        return margin;
+    }
+
+    EventZone[] largeZonesIn(World world) {
+        return largeZones.getOrDefault(world.getUID(), EMPTY);
+    }
+
+    EventZone[] zonesIn(World world) {
+        return worlds.getOrDefault(world.getUID(), EMPTY);
+    }
+
+    synchronized void clear() {
+        cells.clear();
+        worlds.clear();
+        largeZones.clear();
+        ranges.clear();
+    }
+
+    private void addCells(UUID worldId, EventZone zone, CellRange range, CellRange skip) {
+        Map<Long, EventZone[]> worldCells = cells.computeIfAbsent(worldId, k -> new ConcurrentHashMap<>());
+
+        for (int cx = range.minX(); cx <= range.maxX(); cx++) {
+            for (int cz = range.minZ(); cz <= range.maxZ(); cz++) {
+                if (skip != null && skip.contains(cx, cz)) continue;
+
+                long key = key(cx, cz);
+                worldCells.put(key, with(worldCells.getOrDefault(key, EMPTY), zone));
+            }
+        }
+    }
+
+    private void removeCells(UUID worldId, EventZone zone, CellRange range, CellRange keep) {
+        Map<Long, EventZone[]> worldCells = cells.get(worldId);
+        if (worldCells == null) return;
+
+        for (int cx = range.minX(); cx <= range.maxX(); cx++) {
+            for (int cz = range.minZ(); cz <= range.maxZ(); cz++) {
+                if (keep != null && keep.contains(cx, cz)) continue;
+
+                removeFrom(worldCells, key(cx, cz), zone);
+            }
+        }
+
+        if (worldCells.isEmpty()) {
+            cells.remove(worldId);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, EventZone[]> map, K key, EventZone zone) {
+        EventZone[] current = map.get(key);
+        if (current == null) return;
+
+        EventZone[] updated = Arrays.stream(current)
+                .filter(z -> z != zone)
+                .toArray(EventZone[]::new);
+        if (updated.length == 0) {
+            map.remove(key);
+        } else {
+            map.put(key, updated);
+        }
+    }
+
+    private static EventZone[] with(EventZone[] zones, EventZone zone) {
+        EventZone[] updated = Arrays.copyOf(zones, zones.length + 1);
+        updated[zones.length] = zone;
+        return updated;
+    }
+
+    private static int floorToChunk(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private record CellRange(int minX, int maxX, int minZ, int maxZ) {
+        static CellRange of(EventZone zone) {
+            ZoneGeometry geometry = zone.getGeometry();
+            return new CellRange(
+                    floorToChunk(geometry.x - geometry.radius),
+                    floorToChunk(geometry.x + geometry.radius),
+                    floorToChunk(geometry.z - geometry.radius),
+                    floorToChunk(geometry.z + geometry.radius));
+        }
+
+        boolean isLarge() {
+            return (long) (maxX - minX + 1) * (maxZ - minZ + 1) > MAX_INDEXED_CELLS;
+        }
+
+        boolean contains(int cx, int cz) {
+            return cx >= minX && cx <= maxX && cz >= minZ && cz <= maxZ;
+        }
+    }
+}
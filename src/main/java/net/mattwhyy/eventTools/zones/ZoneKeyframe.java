@@ -0,0 +1,4 @@
+package net.mattwhyy.eventTools.zones;
+
+record ZoneKeyframe(long time, double x, double z, double radius) {
+}
@@ -1,68 +1,464 @@
 package net.mattwhyy.eventTools.zones;
 
 import net.mattwhyy.eventTools.EventTools;
+import net.mattwhyy.eventTools.scheduler.EventTask;
+import net.mattwhyy.eventTools.scheduler.TaskScheduler;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 public class ZoneManager {
+    private static final EventZone[] NO_ZONES = new EventZone[0];
+    private static final long MAX_CHECK_INTERVAL = 40L;
+    private static final double BASE_SPEED = 0.7;
+    private static final double FAST_TRAVEL_SPEED = 4.0;
+    private static final double SPEED_HEADROOM = 1.5;
+    private static final int ASYNC_THRESHOLD = 64;
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final int PARTICLE_BUDGET = 150;
+    private static final long RESET_GRACE_TICKS = 20L;
+
     private final EventTools plugin;
-    private final Map<String, EventZone> zones = new HashMap<>();
-    private BukkitTask checkTask;
+    private final Map<String, EventZone> zones = new ConcurrentHashMap<>();
+    private final ZoneIndex index = new ZoneIndex();
+    private final ZoneEffects effects = new ZoneEffects();
+    private final ZoneBorders borders = new ZoneBorders();
+    private final Map<UUID, PlayerZoneState> membership = new ConcurrentHashMap<>();
+    private final Queue<PlayerZoneState> sampled = new ConcurrentLinkedQueue<>();
+    private final ZoneSnapshot snapshot = new ZoneSnapshot();
+    private final AtomicBoolean evaluating = new AtomicBoolean();
+    private final AtomicLong zoneVersion = new AtomicLong();
+    private EventTask checkTask;
+    private EventTask renderTask;
+    private long tick;
+    private double borderSpeed;
+
+    private final TaskScheduler scheduler;
 
     public ZoneManager(EventTools plugin) {
         this.plugin = plugin;
+        this.scheduler = plugin.getTaskScheduler();
         startZoneChecker();
     }
 
     private void startZoneChecker() {
-        this.checkTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!plugin.eventActive) return;
-
-                zones.values().forEach(zone -> {
-                    for (Player player : Bukkit.getOnlinePlayers()) {
-                        boolean isInside = zone.contains(player.getLocation());
-
-                        if (isInside) {
-                            zone.applyEffects(player);
-                        } else {
-                            zone.removeEffects(player);
-                            if (zone.getType() == ZoneType.MUST_STAY) {
-                                plugin.handleElimination(player);
-                            }
-                        }
-                    }
+        this.checkTask = scheduler.runTimer(task -> {
+            updateShrinkingZones();
+            if (!plugin.eventActive) {
+                if (!membership.isEmpty()) {
+                    membership.clear();
+                    sampled.clear();
+                    releaseAll();
+                }
+                return;
+            }
+
+            tick++;
+            if (evaluating.get()) return;
+
+            requestSamples();
+            captureSnapshot();
+            if (snapshot.size == 0) return;
+
+            if (snapshot.size < ASYNC_THRESHOLD) {
+                try {
+                    evaluateSnapshot();
+                } catch (RuntimeException e) {
+                    plugin.getLogger().warning("Zone evaluation failed: " + e.getMessage());
+                    snapshot.clear();
+                }
+                applySnapshot();
+                return;
+            }
+
+            evaluating.set(true);
+            scheduler.runAsync(() -> {
+                try {
+                    evaluateSnapshot();
+                } catch (RuntimeException e) {
+                    plugin.getLogger().warning("Zone evaluation failed: " + e.getMessage());
+                    snapshot.clear();
+                }
+
+                if (!plugin.isEnabled()) return;
+                scheduler.run(() -> {
+                    applySnapshot();
+                    evaluating.set(false);
+                });
+            });
+        }, 1L, 1L);
+    }
+
+    private void updateShrinkingZones() {
+        long now = System.currentTimeMillis();
+        double fastestBorder = 0;
+        for (EventZone zone : zones.values()) {
+            if (!zone.isActive() || !zone.isShrinking()) continue;
+
+            if (zone.updateGeometry(now)) {
+                index.update(zone);
+            }
+            fastestBorder = Math.max(fastestBorder, zone.getBorderSpeed());
+        }
+        borderSpeed = fastestBorder;
+    }
+
+    private void requestSamples() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            PlayerZoneState state = membership.get(player.getUniqueId());
+            if (state == null) {
+                state = new PlayerZoneState(player.getUniqueId(), presumedInside());
+                membership.put(player.getUniqueId(), state);
+            } else if (state.sampling || tick < state.nextCheckTick) {
+                continue;
+            }
+
+            PlayerZoneState sampling = state;
+            sampling.sampling = true;
+            scheduler.runFor(player, () -> sample(player, sampling));
+        }
+    }
+
+    private void sample(Player player, PlayerZoneState state) {
+        Location location = player.getLocation(state.sampleBuffer);
+        state.sampleGeneration = state.generation;
+        state.sampleWorld = location.getWorld();
+        state.sampleX = location.getX();
+        state.sampleZ = location.getZ();
+        state.fastTravel = player.isGliding() || player.isInsideVehicle();
+        sampled.add(state);
+    }
+
+    private void captureSnapshot() {
+        int pending = sampled.size();
+        snapshot.reset(tick, zoneVersion.get(), pending, borderSpeed);
+
+        for (int i = 0; i < pending; i++) {
+            PlayerZoneState state = sampled.poll();
+            if (state == null) break;
+
+            state.sampling = false;
+            if (membership.get(state.playerId) != state || state.sampleGeneration != state.generation) continue;
+
+            snapshot.add(state.playerId, state.sampleGeneration, state.sampleWorld, state.sampleX, state.sampleZ);
+        }
+    }
+
+    private void evaluateSnapshot() {
+        int size = snapshot.size;
+        if (size >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, size).parallel().forEach(this::evaluate);
+        } else {
+            for (int i = 0; i < size; i++) {
+                evaluate(i);
+            }
+        }
+    }
+
+    private void evaluate(int i) {
+        World world = snapshot.worlds[i];
+        double x = snapshot.xs[i];
+        double z = snapshot.zs[i];
+
+        EventZone[] candidates = index.candidates(world, x, z);
+        EventZone[] largeZones = index.largeZonesIn(world);
+        int count = countInside(candidates, world, x, z) + countInside(largeZones, world, x, z);
+
+        EventZone[] inside;
+        if (count == 0) {
+            inside = NO_ZONES;
+        } else if (count == candidates.length && largeZones.length == 0) {
+            inside = candidates;
+        } else {
+            inside = new EventZone[count];
+            int filled = collectInside(largeZones, world, x, z, inside,
+                    collectInside(candidates, world, x, z, inside, 0));
+            if (filled < count) inside = Arrays.copyOf(inside, filled);
+        }
+
+        snapshot.inside[i] = inside;
+        snapshot.margins[i] = index.margin(world, x, z);
+    }
+
+    private static int countInside(EventZone[] zones, World world, double x, double z) {
+        int count = 0;
+        for (EventZone zone : zones) {
+            if (zone.isActive() && zone.contains(world, x, z)) count++;
+        }
+        return count;
+    }
+
+    private static int collectInside(EventZone[] zones, World world, double x, double z, EventZone[] inside, int next) {
+        for (EventZone zone : zones) {
+            if (next == inside.length) break;
+            if (zone.isActive() && zone.contains(world, x, z)) inside[next++] = zone;
+        }
+        return next;
+    }
+
+    private void applySnapshot() {
+        if (snapshot.version != zoneVersion.get()) {
+            snapshot.clear();
+            return;
+        }
+
+        for (int i = 0; i < snapshot.size; i++) {
+            if (!plugin.eventActive) break;
+
+            Player player = Bukkit.getPlayer(snapshot.playerIds[i]);
+            PlayerZoneState state = membership.get(snapshot.playerIds[i]);
+            if (player == null || state == null || state.generation != snapshot.generations[i]) continue;
+
+            EventZone[] insideNow = snapshot.inside[i];
+            if (hasTransitions(state, insideNow)) {
+                scheduler.runFor(player, () -> applyTransitions(player, state, insideNow));
+            } else if (borders.isStale(player.getUniqueId(), borderZones(player, state.inside))) {
+                scheduler.runFor(player, () -> borders.update(player, borderZones(player, state.inside)));
+            }
+            scheduleNextCheck(state, snapshot.worlds[i], snapshot.xs[i], snapshot.zs[i], snapshot.margins[i]);
+        }
+        snapshot.clear();
+    }
+
+    private boolean hasTransitions(PlayerZoneState state, EventZone[] insideNow) {
+        for (EventZone zone : insideNow) {
+            if (!state.inside.contains(zone)) return true;
+        }
+        for (EventZone zone : state.inside) {
+            if (!containsZone(insideNow, zone)) return true;
+        }
+        return false;
+    }
+
+    private void applyTransitions(Player player, PlayerZoneState state, EventZone[] insideNow) {
+        Set<EventZone> inside = state.inside;
+
+        List<EventZone> exited = new ArrayList<>();
+        Iterator<EventZone> iterator = inside.iterator();
+        while (iterator.hasNext()) {
+            EventZone zone = iterator.next();
+            if (!containsZone(insideNow, zone)) {
+                iterator.remove();
+                effects.remove(player, zone);
+                exited.add(zone);
+            }
+        }
+
+        List<EventZone> entered = new ArrayList<>();
+        for (EventZone zone : insideNow) {
+            if (zone.isActive() && inside.add(zone)) {
+                effects.add(player, zone);
+                entered.add(zone);
+            }
+        }
+
+        effects.flush(player);
+        borders.update(player, borderZones(player, inside));
+
+        for (EventZone zone : exited) {
+            exitZone(player, zone);
+        }
+        for (EventZone zone : entered) {
+            Bukkit.getPluginManager().callEvent(new ZoneEnterEvent(player, zone));
+        }
+    }
+
+    private void scheduleNextCheck(PlayerZoneState state, World world, double x, double z, double margin) {
+        long checkedAt = snapshot.tick;
+        double speed = state.fastTravel ? FAST_TRAVEL_SPEED : BASE_SPEED;
+        if (state.lastWorld == world && state.lastCheckTick >= 0 && checkedAt > state.lastCheckTick) {
+            double dx = x - state.lastX;
+            double dz = z - state.lastZ;
+            double observed = Math.sqrt(dx * dx + dz * dz) / (checkedAt - state.lastCheckTick);
+            speed = Math.max(speed, observed * SPEED_HEADROOM);
+        }
+
+        long delay = (long) Math.min(MAX_CHECK_INTERVAL, Math.max(1.0, Math.floor(margin / (speed + snapshot.borderSpeed))));
+        state.nextCheckTick = checkedAt + delay;
+        state.lastCheckTick = checkedAt;
+        state.lastWorld = world;
+        state.lastX = x;
+        state.lastZ = z;
+    }
+
+    private void exitZone(Player player, EventZone zone) {
+        Bukkit.getPluginManager().callEvent(new ZoneExitEvent(player, zone));
+
+        if (zone.getType() == ZoneType.MUST_STAY) {
+            plugin.handleElimination(player);
+        }
+    }
+
+    private Set<EventZone> presumedInside() {
+        Set<EventZone> inside = ConcurrentHashMap.newKeySet();
+        addMustStayZones(inside);
+        return inside;
+    }
+
+    private void addMustStayZones(Set<EventZone> inside) {
+        for (EventZone zone : zones.values()) {
+            if (zone.isActive() && zone.getType() == ZoneType.MUST_STAY) {
+                inside.add(zone);
+            }
+        }
+    }
+
+    private void trackZone(EventZone zone) {
+        zoneVersion.incrementAndGet();
+        index.add(zone);
+        if (zone.getType() == ZoneType.MUST_STAY) {
+            membership.values().forEach(state -> state.inside.add(zone));
+        }
+        recheckAll();
+    }
+
+    private void untrackZone(EventZone zone) {
+        zoneVersion.incrementAndGet();
+        index.remove(zone);
+        membership.forEach((uuid, state) -> {
+            if (!state.inside.remove(zone)) return;
+
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                scheduler.runFor(player, () -> {
+                    effects.remove(player, zone);
+                    effects.flush(player);
+                    borders.update(player, borderZones(player, state.inside));
+                    Bukkit.getPluginManager().callEvent(new ZoneExitEvent(player, zone));
                 });
             }
-        }.runTaskTimer(plugin, 0L, 10L);
+        });
+    }
+
+    private boolean containsZone(EventZone[] candidates, EventZone zone) {
+        for (EventZone candidate : candidates) {
+            if (candidate == zone) return true;
+        }
+        return false;
     }
 
     public void startParticleRenderer() {
-        BukkitTask particleTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (EventZone zone : zones.values()) {
-                    if (!zone.isActive()) continue;
-
-                    for (Player player : Bukkit.getOnlinePlayers()) {
-                        if (player.getWorld().equals(zone.getCenter().getWorld())) {
-                            if (player.getLocation().distance(zone.getCenter()) <= zone.getRadius() + 20) {
-                                zone.displayBorder(player);
-                            }
-                        }
-                    }
-                }
+        this.renderTask = scheduler.runTimer(task -> {
+            if (zones.isEmpty()) return;
+
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                scheduler.runFor(player, () -> render(player));
             }
-        }.runTaskTimer(plugin, 0L, 10L);
+        }, 1L, 10L);
+    }
+
+    private void render(Player player) {
+        Location location = player.getLocation();
+        int budget = PARTICLE_BUDGET;
+        for (EventZone zone : index.zonesIn(location.getWorld())) {
+            if (budget <= 0) break;
+            if (borders.shows(player, zone)) continue;
+
+            budget -= zone.displayBorder(player, location.getX(), location.getZ(), budget);
+        }
     }
 
     public void addZone(EventZone zone) {
-        zones.put(zone.getName().toLowerCase(), zone);
+        EventZone previous = zones.put(zone.getName().toLowerCase(), zone);
+        if (previous != null && previous.isActive()) {
+            untrackZone(previous);
+            previous.setActive(false);
+        }
+        if (zone.isActive()) {
+            trackZone(zone);
+        }
+    }
+
+    public void setZoneActive(EventZone zone, boolean active) {
+        if (zone.isActive() == active) return;
+
+        if (active) {
+            zone.setActive(true);
+            trackZone(zone);
+        } else {
+            untrackZone(zone);
+            zone.setActive(false);
+        }
+    }
+
+    public void setVirtualBorder(EventZone zone, boolean enabled) {
+        zone.setVirtualBorder(enabled);
+        membership.forEach((uuid, state) -> {
+            if (!state.inside.contains(zone)) return;
+
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                scheduler.runFor(player, () -> borders.update(player, borderZones(player, state.inside)));
+            }
+        });
+    }
+
+    private void recheckAll() {
+        membership.values().forEach(state -> {
+            state.nextCheckTick = 0;
+            state.generation++;
+        });
+    }
+
+    public void recheck(Player player) {
+        PlayerZoneState state = membership.get(player.getUniqueId());
+        if (state != null) {
+            state.nextCheckTick = 0;
+            state.lastCheckTick = -1;
+            state.generation++;
+        }
+    }
+
+    public void reset(Player player) {
+        PlayerZoneState state = membership.get(player.getUniqueId());
+        if (state == null) return;
+
+        addMustStayZones(state.inside);
+        state.generation++;
+        state.lastCheckTick = -1;
+        state.nextCheckTick = tick + RESET_GRACE_TICKS;
+    }
+
+    private void releaseAll() {
+        Set<UUID> tracked = new HashSet<>(effects.trackedPlayers());
+        tracked.addAll(borders.trackedPlayers());
+        for (UUID playerId : tracked) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                scheduler.runFor(player, () -> {
+                    effects.release(player);
+                    borders.release(player);
+                });
+            }
+        }
+    }
+
+    public void resync(Player player) {
+        effects.resync(player);
+    }
+
+    public void refreshBorder(Player player) {
+        PlayerZoneState state = membership.get(player.getUniqueId());
+        scheduler.runFor(player, () ->
+                borders.update(player, state != null ? borderZones(player, state.inside) : Set.of()));
+    }
+
+    private Set<EventZone> borderZones(Player player, Set<EventZone> inside) {
+        return plugin.isBypassed(player) || plugin.isEliminated(player) ? Set.of() : inside;
+    }
+
+    public void forgetPlayer(Player player) {
+        membership.remove(player.getUniqueId());
+        effects.release(player);
+        borders.forget(player);
     }
 
     public List<String> getZoneNames() {
@@ -76,6 +472,7 @@ public class ZoneManager {
     public boolean removeZone(String name) {
         EventZone zone = zones.remove(name.toLowerCase());
         if (zone != null) {
+            if (zone.isActive()) untrackZone(zone);
             zone.setActive(false);
             return true;
         }
@@ -84,7 +481,12 @@ public class ZoneManager {
 
     public void shutdown() {
         if (checkTask != null) checkTask.cancel();
-        zones.values().forEach(zone ->
-                Bukkit.getOnlinePlayers().forEach(zone::removeEffects));
+        if (renderTask != null) renderTask.cancel();
+        index.clear();
+        membership.clear();
+        Bukkit.getOnlinePlayers().forEach(player -> {
+            effects.release(player);
+            borders.release(player);
+        });
     }
-}
\ No newline at end of file
+}
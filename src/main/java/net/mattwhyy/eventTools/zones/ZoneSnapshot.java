@@ -0,0 +1,52 @@
+package net.mattwhyy.eventTools.zones;
+
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+class ZoneSnapshot {
+    long tick;
+    long version;
+    double borderSpeed;
+    int size;
+    UUID[] playerIds = new UUID[0];
+    int[] generations = new int[0];
+    World[] worlds = new World[0];
+    double[] xs = new double[0];
+    double[] zs = new double[0];
+    EventZone[][] inside = new EventZone[0][];
+    double[] margins = new double[0];
+
+    void reset(long tick, long version, int capacity, double borderSpeed) {
+        this.tick = tick;
+        this.version = version;
+        this.borderSpeed = borderSpeed;
+        this.size = 0;
+        if (playerIds.length < capacity) {
+            playerIds = new UUID[capacity];
+            generations = new int[capacity];
+            worlds = new World[capacity];
+            xs = new double[capacity];
+            zs = new double[capacity];
+            inside = new EventZone[capacity][];
+            margins = new double[capacity];
+        }
+    }
+
+    void add(UUID playerId, int generation, World world, double x, double z) {
+        playerIds[size] = playerId;
+        generations[size] = generation;
+        worlds[size] = world;
+        xs[size] = x;
+        zs[size] = z;
+        size++;
+    }
+
+    void clear() {
+        Arrays.fill(playerIds, 0, size, null);
+        Arrays.fill(worlds, 0, size, null);
+        Arrays.fill(inside, 0, size, null);
+        size = 0;
+    }
+}